@@ -1,28 +1,94 @@
+import core.BidirectionalBfsSolver;
+import core.ClassicPrimGenerator;
+import core.EllerGenerator;
+import core.GenerationMetrics;
+import core.GenerationStats;
+import core.JobScheduler;
+import core.MazeFile;
+import core.MazeGenerator;
+import core.LpaStarSolver;
+import core.MazeModel;
+import core.Metrics;
+import core.ParallelBfsSolver;
+import core.PathResult;
+import core.PathTreeCache;
+import core.PrimGenerator;
+import core.SolveMetrics;
+import core.Solver;
+import core.StepLog;
+import core.TiledPrimGenerator;
+import core.TreeSolver;
+import core.UnweightedSolver;
+
 import javax.swing.*;
+import javax.swing.Timer;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.function.Consumer;
 
 public class Maze extends JPanel {
 
     // --- Konfigurasi Logika ---
-    protected final int COLS = 40;
-    protected final int ROWS = 30;
+    // Bukan final: ukuran ikut berubah saat maze dimuat dari file
+    protected int COLS;
+    protected int ROWS;
 
     // Variabel Rendering
     protected int cellSize;
     protected int startX, startY;
-    protected boolean drawScan = true;
+
+    // Viewport: zoom lewat cellSize (piksel per sel) atau lod (sel per piksel saat zoom out jauh),
+    // pan lewat startX/startY. Hanya sel di rentang view[R|C]0..1 yang dikunjungi saat menggambar.
+    protected int lod = 1;
+    protected int viewR0, viewR1, viewC0, viewC1;
+    private boolean fitToView = true;
+    private int dragX, dragY;
+    private boolean dragging;
+
+    // Di bawah ukuran ini layer statis digambar per piksel (tanpa Graphics per sel)
+    protected final int PIXEL_CELL_SIZE = 4;
+    protected final int MAX_CELL_SIZE = 64;
+
+    // Layer statis (dinding, terrain, label) di-cache; frame = layer statis + overlay pencarian.
+    // Layer dibangun ulang hanya saat maze (version), ukuran panel, atau mode tampilan berubah;
+    // tiap frame animasi hanya menggambar sel yang baru berubah lalu repaint area kotornya saja.
+    private BufferedImage staticLayer, frame;
+    private MazeModel layerGrid;
+    private int layerVersion, layerW, layerH, layerMode;
+    private int layerX, layerY, layerCell, layerLod;
+    private boolean frameReset = true;
+    private int[] pendingCells = new int[256];
+    private int pendingSize;
+    private final Rectangle dirty = new Rectangle();
+    private boolean hasDirty;
 
     // Callback untuk update statistik ke UI
     protected Consumer<String> statsCallback;
 
+    // Metrik terstruktur tiap solve (panel statistik hanya salah satu konsumen teksnya)
+    protected Consumer<SolveMetrics> metricsCallback;
+
     // Kecepatan Animasi
-    protected final int SOLVE_DELAY = 10;
-    protected final int PATH_DELAY = 25;
     protected final int GEN_BATCH = 15;
 
+    // Ukuran tile generator paralel di UI (kecil supaya struktur tile terlihat)
+    protected final int TILE_SIZE = 10;
+
+    // Playback log solver: solver jalan penuh, UI memutar ulang per frame
+    protected int playbackFps = 60;
+    protected int stepsPerFrame = 2;
+    protected boolean turbo = false;
+    private Timer playbackTimer;
+
     // Warna & Style
     protected final Color COLOR_BG = new Color(30, 30, 30);
     protected final Color COLOR_WALL = Color.WHITE;
@@ -32,259 +98,844 @@ public class Maze extends JPanel {
     protected final Color COLOR_SEARCH = new Color(0, 255, 255, 120);
 
     protected final Stroke STROKE_WALL = new BasicStroke(3);
+    protected final Stroke STROKE_WALL_THIN = new BasicStroke(1);
     protected final Stroke STROKE_PATH = new BasicStroke(6);
+    // Stroke jalur untuk sel kecil, dibuat ulang hanya saat cellSize berubah
+    private Stroke pathStroke;
+    private int pathStrokeSize = -1;
 
     // --- Struktur Data ---
-    protected Cell[][] grid;
-    protected Cell startCell, endCell;
-    protected List<Cell> finalPath;
-
-    protected boolean isGenerating = false;
+    // Model headless; Maze hanya menyimpan state animasi & merender.
+    // Penyimpanan dipilih MazeModel.allocate (off-heap untuk maze raksasa); grid lama ditutup saat diganti.
+    protected MazeModel grid;
+    protected int startCell, endCell;
+    // Jalur solusi sebagai int[] plus indeks per baris (posisi di jalur untuk tiap baris),
+    // supaya paint hanya menyentuh segmen di baris yang terlihat, bukan seluruh jalur
+    private int[] finalPath = new int[256];
+    private int finalPathSize;
+    private int[][] pathByRow;
+    private int[] pathByRowSize;
+
+    // State animasi per sel (indeks r * COLS + c)
+    protected boolean[] searchVisited;
+
+    // Semua generate/solve/IO lewat satu penjadwal: tidak ada dua job yang menyentuh grid bersamaan.
+    // isSolving = hasil solve sedang diputar ulang di EDT (setelah job selesai), hanya diubah di EDT.
+    protected final JobScheduler jobs = new JobScheduler();
     protected boolean isSolving = false;
 
+    // Solver incremental: setelah edit, re-solve hanya memperbaiki area yang berubah
+    protected final LpaStarSolver lpaSolver = new LpaStarSolver(false);
+    protected boolean incrementalActive = false;
+
+    // Pohon jalur terpendek per start di-cache: ganti target (Ctrl+klik) dijawab tanpa mencari ulang.
+    // activeTree = solver pohon terakhir, dipakai lagi saat target pindah atau maze diedit.
+    protected final PathTreeCache treeCache = new PathTreeCache();
+    protected TreeSolver activeTree;
+
     public Maze() {
+        this(30, 40);
+    }
+
+    public Maze(int rows, int cols) {
+        this.ROWS = rows;
+        this.COLS = cols;
         setBackground(COLOR_BG);
         setupGrid();
+        jobs.setErrorHandler(e -> {
+            if (statsCallback != null) statsCallback.accept("Job failed:\n" + e);
+            else e.printStackTrace();
+        });
+
+        // Klik kiri dekat sisi sel = buka/tutup dinding, klik kanan = ubah terrain, Ctrl+klik = pindah target,
+        // drag = geser view, roda mouse = zoom di sekitar kursor
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+                dragY = e.getY();
+                dragging = false;
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                int dx = e.getX() - dragX, dy = e.getY() - dragY;
+                if (!dragging && Math.abs(dx) + Math.abs(dy) < 4) return;
+                dragging = true;
+                dragX = e.getX();
+                dragY = e.getY();
+                pan(dx, dy);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                if (!dragging) {
+                    if (e.isControlDown()) moveTarget(e.getX(), e.getY());
+                    else editAt(e.getX(), e.getY(), SwingUtilities.isRightMouseButton(e));
+                }
+                dragging = false;
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(-e.getWheelRotation(), e.getX(), e.getY());
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
     }
 
     public void setStatsCallback(Consumer<String> callback) {
         this.statsCallback = callback;
     }
 
-    protected static class Cell {
-        int r, c;
-        boolean[] walls = {true, true, true, true};
-        boolean visited = false;
-        boolean searchVisited = false;
-        Cell parent = null;
+    public void setMetricsCallback(Consumer<SolveMetrics> callback) {
+        this.metricsCallback = callback;
+    }
 
-        public Cell(int r, int c) {
-            this.r = r;
-            this.c = c;
-        }
+    // Turbo = langsung tampilkan hasil akhir tanpa animasi
+    public void setTurbo(boolean turbo) {
+        this.turbo = turbo;
+    }
+
+    public void setPlaybackSpeed(int fps, int stepsPerFrame) {
+        this.playbackFps = Math.max(1, fps);
+        this.stepsPerFrame = Math.max(1, stepsPerFrame);
+    }
+
+    public MazeModel getGrid() {
+        return grid;
     }
 
     protected void setupGrid() {
-        grid = new Cell[ROWS][COLS];
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                grid[r][c] = new Cell(r, c);
-            }
+        if (grid == null) {
+            grid = MazeModel.allocate(ROWS, COLS);
+            searchVisited = new boolean[grid.size()];
+        } else {
+            grid.reset();
         }
-        startCell = grid[0][0];
-        endCell = grid[ROWS - 1][COLS - 1];
-        finalPath = new ArrayList<>();
+        clearSearch();
+        startCell = grid.index(0, 0);
+        endCell = grid.index(ROWS - 1, COLS - 1);
+        resetPath();
         repaint();
     }
 
-    public void generatePrim() {
-        if (isGenerating || isSolving) return;
-        setupGrid();
-        isGenerating = true;
-        if (statsCallback != null) statsCallback.accept("Generating Maze...");
-
-        new Thread(() -> {
-            ArrayList<Cell> frontier = new ArrayList<>();
-            Random rand = new Random();
-            startCell.visited = true;
-            addFrontier(startCell, frontier);
-
-            int loop = 0;
-            while (!frontier.isEmpty()) {
-                Cell current = frontier.remove(rand.nextInt(frontier.size()));
-                List<Cell> neighbors = getNeighbors(current);
-                if (!neighbors.isEmpty()) {
-                    Cell neighbor = neighbors.get(rand.nextInt(neighbors.size()));
-                    removeWalls(current, neighbor);
-                    current.visited = true;
-                    addFrontier(current, frontier);
-                    if(++loop % GEN_BATCH == 0) visualize(1);
-                }
+    // Simpan maze ke format biner .maze; antre di belakang job yang sedang jalan (maze utuh)
+    public void saveMaze(Path path) {
+        jobs.submit(JobScheduler.Kind.IO, "Save", () -> {
+            try {
+                MazeFile.save(grid, path);
+                if (statsCallback != null) statsCallback.accept("Maze Saved.\n" + path.getFileName() + "\n" + ROWS + " x " + COLS);
+            } catch (IOException e) {
+                if (statsCallback != null) statsCallback.accept("Save failed:\n" + e.getMessage());
             }
-            grid[0][0].walls[3] = false;
-            grid[ROWS-1][COLS-1].walls[1] = false;
-            isGenerating = false;
+        });
+    }
+
+    // Muat maze dari file .maze; ukuran grid mengikuti isi file. File dibaca di job thread,
+    // grid diganti di EDT.
+    public void loadMaze(Path path) {
+        jobs.submit(JobScheduler.Kind.GENERATE, "Load", () -> {
+            MazeModel loaded;
+            try {
+                loaded = MazeFile.load(path);
+            } catch (IOException | IllegalArgumentException e) {
+                if (statsCallback != null) statsCallback.accept("Load failed:\n" + e.getMessage());
+                return;
+            }
+            onEdt(() -> {
+                resetSolver();
+                discardSolverState();
+                MazeModel old = grid;
+                grid = loaded;
+                if (old != null) old.close();
+                ROWS = loaded.rows();
+                COLS = loaded.cols();
+                searchVisited = new boolean[loaded.size()];
+                startCell = 0;
+                endCell = loaded.size() - 1;
+                resetPath();
+                fitToView = true;
+                mazeLoaded();
+                repaint();
+            });
+            if (statsCallback != null) statsCallback.accept("Maze Loaded.\n" + path.getFileName() + "\n" + ROWS + " x " + COLS);
+        });
+    }
+
+    // Dipanggil di EDT setelah grid hasil load terpasang
+    protected void mazeLoaded() {
+    }
+
+    // Maze diganti (generate/load): state solver incremental milik maze lama tidak berlaku,
+    // edit berikutnya tidak lagi memicu re-solve otomatis
+    protected void discardSolverState() {
+        incrementalActive = false;
+        activeTree = null;
+        lpaSolver.invalidate();
+    }
+
+    // Maze biasa tidak punya mode terrain; WeightedMaze mengganti tampilan
+    protected void setTerrainMode(boolean terrain) {
+    }
+
+    public void generatePrim() {
+        jobs.submit(JobScheduler.Kind.GENERATE, "Prim (classic)", () -> {
+            runClassicPrim(false);
             if (statsCallback != null) statsCallback.accept("Maze Generated.\nReady to solve.");
             repaint();
-        }).start();
+        });
     }
 
-    public void solve(boolean useBFS) {
-        if (isGenerating || isSolving) return;
-        resetSolver();
-        isSolving = true;
-        String algoName = useBFS ? "BFS" : "DFS";
-        if (statsCallback != null) statsCallback.accept("Running " + algoName + "...");
-
-        new Thread(() -> {
-            LinkedList<Cell> list = new LinkedList<>();
-            list.add(startCell);
-            startCell.searchVisited = true;
-            boolean found = false;
-            int nodesVisited = 0;
-
-            while (!list.isEmpty()) {
-                Cell current = useBFS ? list.poll() : list.removeLast();
-                nodesVisited++;
-
-                if (current == endCell) {
-                    found = true;
-                    break;
-                }
+    // Langkah job: Prim klasik dengan animasi (GEN_BATCH sel per frame)
+    protected void runClassicPrim(boolean terrain) throws InterruptedException {
+        beginGeneration("Generating Maze...", terrain);
+        int[] loop = {0};
+        new ClassicPrimGenerator(System.nanoTime(), _ -> {
+            if(++loop[0] % GEN_BATCH == 0) visualize(1);
+        }).generate(grid);
+    }
 
-                for (Cell next : getConnectedNeighbors(current)) {
-                    if (!next.searchVisited) {
-                        next.searchVisited = true;
-                        next.parent = current;
-                        list.add(next);
-                    }
-                }
-                visualize(SOLVE_DELAY);
-            }
+    // Awal job generate: hentikan playback, kosongkan grid & overlay di EDT
+    protected void beginGeneration(String message, boolean terrain) throws InterruptedException {
+        onEdt(() -> {
+            resetSolver();
+            discardSolverState();
+            setTerrainMode(terrain);
+            setupGrid();
+        });
+        if (statsCallback != null) statsCallback.accept(message);
+    }
+
+    // Prim dengan frontier terindeks (O(1) per langkah), hasil bisa diulang lewat seed
+    public void generatePrimFast(long seed) {
+        generate(new PrimGenerator(seed), seed);
+    }
 
-            if (found) {
-                reconstructPath(endCell);
-                // Update Statistik ke Panel Samping (Bukan Popup)
-                String result = String.format("""
-                    Algorithm: %s
+    // Eller baris per baris (memori O(lebar)), hasil bisa diulang lewat seed
+    public void generateEller(long seed) {
+        generate(new EllerGenerator(seed), seed);
+    }
+
+    // Prim per tile secara paralel (ForkJoinPool) lalu tile disambung jadi satu spanning tree
+    public void generateTiled(long seed) {
+        generate(new TiledPrimGenerator(seed, TILE_SIZE), seed);
+    }
+
+    // Jalankan generator headless lalu tampilkan statistiknya
+    protected void generate(MazeGenerator generator, long seed) {
+        jobs.submit(JobScheduler.Kind.GENERATE, generator.name(), () -> {
+            beginGeneration("Generating Maze (" + generator.name() + ")...", false);
+            GenerationMetrics metrics = Metrics.generate(generator, grid);
+            GenerationStats stats = metrics.stats();
+            if (statsCallback != null) statsCallback.accept(String.format("""
+                    Maze Generated.
                     ----------------
-                    Status: Finished
-                    Nodes Visited: %d
-                    Path Found: Yes
-                    (Unweighted)
-                    """, algoName, nodesVisited);
-
-                if (statsCallback != null) statsCallback.accept(result);
-            } else {
-                if (statsCallback != null) statsCallback.accept(algoName + " Failed to find path.");
-            }
-            isSolving = false;
+                    Generator: %s
+                    Seed: %d
+                    Cells: %,d
+                    Time: %.2f ms
+                    Throughput: %,.0f cells/s
+                    Allocated: %s
+                    """, stats.generator(), stats.seed(), stats.cells(), stats.millis(), stats.cellsPerSecond(),
+                    formatBytes(metrics.allocatedBytes())));
             repaint();
-        }).start();
+        });
     }
 
-    protected void addFrontier(Cell cell, ArrayList<Cell> frontier) {
-        int[][] dirs = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-        for(int[] d : dirs) {
-            int nr = cell.r + d[0], nc = cell.c + d[1];
-            if(isValid(nr, nc) && !grid[nr][nc].visited && !frontier.contains(grid[nr][nc]))
-                frontier.add(grid[nr][nc]);
+    public void solve(boolean useBFS) {
+        solve(new UnweightedSolver(useBFS));
+    }
+
+    public void solveBidirectional() {
+        solve(new BidirectionalBfsSolver());
+    }
+
+    // BFS per level di ForkJoinPool; hasil & urutan animasi sama dengan BFS biasa
+    public void solveParallel() {
+        solve(new ParallelBfsSolver());
+    }
+
+    // Jalankan solver unweighted apa pun (headless) lalu putar ulang hasilnya.
+    // Solve baru menginterupsi solve yang masih berjalan (lihat JobScheduler).
+    public void solve(Solver solver) {
+        String algoName = solver.name();
+        jobs.submit(JobScheduler.Kind.SOLVE, algoName, () -> {
+            StepLog log = new StepLog();
+            SolveMetrics metrics = runSolve(solver, log);
+            PathResult res = metrics.result();
+
+            playback(log, res.path(), () -> {
+                if (res.found()) {
+                    // Update Statistik ke Panel Samping (Bukan Popup)
+                    String result = String.format("""
+                        Algorithm: %s
+                        ----------------
+                        Status: Finished
+                        Nodes Visited: %d
+                        Solve Time: %.3f ms
+                        %s
+                        Path Found: Yes
+                        (Unweighted)
+                        """, algoName, res.expanded(), metrics.millis(), frontierStats(metrics));
+
+                    if (statsCallback != null) statsCallback.accept(result + treeStats(solver));
+                } else {
+                    if (statsCallback != null) statsCallback.accept(algoName + " Failed to find path.");
+                }
+                isSolving = false;
+            });
+        });
+    }
+
+    // Langkah job solve: reset overlay di EDT, lalu solve dengan listener yang bisa dibatalkan
+    protected SolveMetrics runSolve(Solver solver, StepLog log) throws InterruptedException {
+        beginSolve(solver.name(), solver);
+        SolveMetrics metrics = Metrics.solve(solver, grid, startCell, endCell, JobScheduler.cancellable(log));
+        if (metricsCallback != null) metricsCallback.accept(metrics);
+        return metrics;
+    }
+
+    // solver = solver yang akan jalan (null untuk race); menentukan mode re-solve setelah edit
+    protected void beginSolve(String name, Solver solver) throws InterruptedException {
+        onEdt(() -> {
+            resetSolver();
+            isSolving = true;
+            incrementalActive = solver instanceof LpaStarSolver;
+            activeTree = solver instanceof TreeSolver tree ? tree : null;
+        });
+        if (statsCallback != null) statsCallback.accept("Running " + name + "...");
+    }
+
+    // Jalankan r di EDT dan tunggu selesai (dipanggil dari job thread)
+    protected void onEdt(Runnable r) throws InterruptedException {
+        try {
+            SwingUtilities.invokeAndWait(r);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
         }
     }
 
-    protected void removeWalls(Cell a, Cell b) {
-        int dr = a.r - b.r, dc = a.c - b.c;
-        if (dr == 1) { a.walls[0] = false; b.walls[2] = false; }
-        if (dr == -1){ a.walls[2] = false; b.walls[0] = false; }
-        if (dc == 1) { a.walls[3] = false; b.walls[1] = false; }
-        if (dc == -1){ a.walls[1] = false; b.walls[3] = false; }
+    // Baris statistik frontier & alokasi untuk panel samping
+    protected String frontierStats(SolveMetrics m) {
+        return String.format("""
+                Relaxations: %,d
+                Pushes/Pops: %,d / %,d
+                Peak Frontier: %,d
+                Allocated: %s""", m.relaxations(), m.pushes(), m.pops(), m.peakFrontier(), formatBytes(m.allocatedBytes()));
+    }
+
+    // Status cache pohon untuk solver pohon (kosong untuk solver lain)
+    protected String treeStats(Solver solver) {
+        if (!(solver instanceof TreeSolver tree)) return "";
+        PathTreeCache cache = tree.cache();
+        return String.format("Tree: %s%nCached Trees: %d (%s)%nCtrl+click: move target%n",
+                tree.lastHit() ? "hit" : "built", cache.size(), formatBytes(cache.bytes()));
+    }
+
+    // Ukuran byte untuk panel stats; negatif = tidak terukur
+    protected static String formatBytes(long bytes) {
+        if (bytes < 0) return "n/a";
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    // LPA*: state disimpan antar query, jadi solve setelah edit hanya memperbaiki bagian terdampak
+    public void solveIncremental() {
+        solve(lpaSolver);
+    }
+
+    // Solve dari pohon jalur terpendek start: weighted = Dijkstra dengan biaya terrain, selain itu BFS
+    public void solveTree(boolean weighted) {
+        solve(new TreeSolver(weighted, treeCache));
     }
 
-    protected List<Cell> getNeighbors(Cell c) {
-        List<Cell> list = new ArrayList<>();
-        int[][] dirs = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-        for(int[] d : dirs) {
-            int nr = c.r+d[0], nc = c.c+d[1];
-            if(isValid(nr, nc) && grid[nr][nc].visited) list.add(grid[nr][nc]);
+    // Pindahkan target ke sel yang diklik; kalau mode pohon aktif, jalur baru langsung dari cache
+    protected void moveTarget(int x, int y) {
+        if (jobs.isBusy() || isSolving || cellSize <= 0) return;
+        int c = colAt(x), r = rowAt(y);
+        if (!grid.isValid(r, c)) return;
+        endCell = grid.index(r, c);
+        if (activeTree != null) solveTree(activeTree.isWeighted());
+        else resetSolver();
+    }
+
+    protected void editAt(int x, int y, boolean secondary) {
+        // Saat satu piksel mewakili banyak sel, klik tidak bisa menunjuk satu sel
+        if (jobs.isBusy() || isSolving || cellSize <= 0 || lod > 1) return;
+        int c = Math.floorDiv(x - startX, cellSize);
+        int r = Math.floorDiv(y - startY, cellSize);
+        if (!grid.isValid(r, c)) return;
+        int cell = grid.index(r, c);
+
+        if (secondary) {
+            if (!editTerrain(cell)) return;
+        } else {
+            // Sisi terdekat dari titik klik
+            int dx = x - startX - c * cellSize, dy = y - startY - r * cellSize;
+            int dir = MazeModel.TOP;
+            int best = dy;
+            if (cellSize - dx < best) { best = cellSize - dx; dir = MazeModel.RIGHT; }
+            if (cellSize - dy < best) { best = cellSize - dy; dir = MazeModel.BOTTOM; }
+            if (dx < best) dir = MazeModel.LEFT;
+            int nb = grid.neighbor(cell, dir);
+            if (nb < 0) return;
+            if (grid.hasWall(cell, dir)) grid.removeWall(cell, dir);
+            else grid.addWall(cell, dir);
+            cellEdited(cell);
+            cellEdited(nb);
         }
-        return list;
+
+        if (incrementalActive) solveIncremental();
+        else if (activeTree != null) solveTree(activeTree.isWeighted());
+        else resetSolver();
     }
 
-    protected List<Cell> getConnectedNeighbors(Cell c) {
-        List<Cell> list = new ArrayList<>();
-        if (!c.walls[0] && isValid(c.r-1, c.c)) list.add(grid[c.r-1][c.c]);
-        if (!c.walls[1] && isValid(c.r, c.c+1)) list.add(grid[c.r][c.c+1]);
-        if (!c.walls[2] && isValid(c.r+1, c.c)) list.add(grid[c.r+1][c.c]);
-        if (!c.walls[3] && isValid(c.r, c.c-1)) list.add(grid[c.r][c.c-1]);
-        return list;
+    // Ubah terrain sel (maze biasa tidak punya terrain)
+    protected boolean editTerrain(int cell) {
+        return false;
     }
 
-    protected boolean isValid(int r, int c) { return r >= 0 && r < ROWS && c >= 0 && c < COLS; }
+    protected void cellEdited(int cell) {
+        lpaSolver.cellChanged(grid, cell);
+    }
 
     protected void resetSolver() {
-        finalPath.clear();
-        for(int r=0; r<ROWS; r++) {
-            for(int c=0; c<COLS; c++) {
-                grid[r][c].searchVisited = false;
-                grid[r][c].parent = null;
+        if (playbackTimer != null) playbackTimer.stop();
+        isSolving = false;
+        clearPath();
+        clearSearch();
+        repaint();
+    }
+
+    // Hapus overlay pencarian; frame disalin ulang dari layer statis saat paint berikutnya
+    protected void clearSearch() {
+        Arrays.fill(searchVisited, false);
+        pendingSize = 0;
+        frameReset = true;
+    }
+
+    // Tandai sel sebagai dikunjungi; hanya sel baru yang digambar di frame berikutnya
+    protected void markVisited(int cell) {
+        if (searchVisited[cell]) return;
+        searchVisited[cell] = true;
+        if (frameReset || !isDrawn(cell)) return;
+        if (pendingSize == pendingCells.length) {
+            if (pendingSize > searchVisited.length / 4) {
+                // Terlalu banyak sel sekaligus (mis. turbo): gambar ulang frame penuh lebih murah
+                pendingSize = 0;
+                frameReset = true;
+                return;
             }
+            pendingCells = Arrays.copyOf(pendingCells, pendingSize * 2);
         }
-        repaint();
+        pendingCells[pendingSize++] = cell;
+        markDirty(cell);
     }
 
-    protected void reconstructPath(Cell end) {
-        Cell temp = end;
-        while (temp != null) {
-            finalPath.add(temp);
-            temp = temp.parent;
-            visualize(PATH_DELAY);
+    // Perluas area kotor dengan kotak sel (plus margin untuk garis jalur); gabungan dihitung di tempat
+    protected void markDirty(int cell) {
+        int m = 4;
+        int x = cellX(cell) - m;
+        int y = cellY(cell) - m;
+        int size = cellSize + 2 * m;
+        if (hasDirty) {
+            dirty.add(x, y);
+            dirty.add(x + size, y + size);
+        } else {
+            dirty.setBounds(x, y, size, size);
+            hasDirty = true;
         }
-        Collections.reverse(finalPath);
+    }
+
+    // Indeks per baris dibuat ulang saat ukuran grid berubah
+    private void resetPath() {
+        if (pathByRow == null || pathByRow.length != ROWS) {
+            pathByRow = new int[ROWS][];
+            pathByRowSize = new int[ROWS];
+            finalPathSize = 0;
+        } else {
+            clearPath();
+        }
+    }
+
+    protected void clearPath() {
+        for (int i = 0; i < finalPathSize; i++) pathByRowSize[grid.row(finalPath[i])] = 0;
+        finalPathSize = 0;
+    }
+
+    protected void addPathCell(int cell) {
+        if (finalPathSize == finalPath.length) finalPath = Arrays.copyOf(finalPath, finalPathSize * 2);
+        int r = grid.row(cell);
+        int[] at = pathByRow[r];
+        int n = pathByRowSize[r];
+        if (at == null) {
+            at = pathByRow[r] = new int[4];
+        } else if (n == at.length) {
+            at = pathByRow[r] = Arrays.copyOf(at, n * 2);
+        }
+        at[n] = finalPathSize;
+        pathByRowSize[r] = n + 1;
+        finalPath[finalPathSize++] = cell;
+    }
+
+    protected void repaintDirty() {
+        if (frameReset) {
+            repaint();
+        } else if (hasDirty) {
+            repaint(dirty.x, dirty.y, dirty.width, dirty.height);
+        }
+        hasDirty = false;
+    }
+
+    // Putar ulang log solver di EDT, lalu gambar jalur; onDone dipanggil di EDT setelah selesai
+    protected void playback(StepLog log, int[] path, Runnable onDone) {
+        SwingUtilities.invokeLater(() -> {
+            if (turbo) {
+                for (int i = 0; i < log.size(); i++) applyStep(log.get(i));
+                for (int cell : path) addPathCell(cell);
+                repaint();
+                onDone.run();
+                return;
+            }
+
+            int[] cursor = {0, 0}; // posisi di log, posisi di path
+            playbackTimer = new Timer(1000 / playbackFps, null);
+            playbackTimer.addActionListener(_ -> {
+                int steps = 0;
+                while (cursor[0] < log.size() && steps < stepsPerFrame) {
+                    int event = log.get(cursor[0]++);
+                    applyStep(event);
+                    if (StepLog.isExpand(event)) steps++;
+                }
+                if (cursor[0] == log.size()) {
+                    for (int k = 0; k < stepsPerFrame && cursor[1] < path.length; k++) {
+                        int cell = path[cursor[1]++];
+                        addPathCell(cell);
+                        markDirty(cell);
+                    }
+                    if (cursor[1] == path.length) {
+                        playbackTimer.stop();
+                        onDone.run();
+                    }
+                }
+                repaintDirty();
+            });
+            playbackTimer.start();
+        });
+    }
+
+    // Satu event dari StepLog; default: sel yang masuk frontier maupun yang di-expand ditandai
+    protected void applyStep(int event) {
+        markVisited(StepLog.cell(event));
     }
 
     protected void visualize(int delay) {
-        try { SwingUtilities.invokeLater(this::repaint); if(delay > 0) Thread.sleep(delay); } catch(Exception _){}
+        SwingUtilities.invokeLater(this::repaint);
+        if (delay <= 0) return;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            // Job dibatalkan: hentikan generator di langkah ini
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
     }
 
+    // Fit: seluruh grid muat di panel (lod > 1 kalau grid lebih besar dari jumlah piksel).
+    // Setelah user zoom/pan, cellSize/lod/startX/startY dipertahankan; hanya rentang sel terlihat dihitung ulang.
     protected void calculateDimensions() {
         int panelW = getWidth();
         int panelH = getHeight();
-        int cellW = panelW / COLS;
-        int cellH = panelH / ROWS;
-        cellSize = Math.max(1, Math.min(cellW, cellH));
-        startX = (panelW - (COLS * cellSize)) / 2;
-        startY = (panelH - (ROWS * cellSize)) / 2;
+        if (fitToView) {
+            int cellW = panelW / COLS;
+            int cellH = panelH / ROWS;
+            cellSize = Math.max(1, Math.min(cellW, cellH));
+            lod = COLS <= panelW && ROWS <= panelH ? 1
+                    : Math.max(Math.ceilDiv(COLS, Math.max(1, panelW)), Math.ceilDiv(ROWS, Math.max(1, panelH)));
+            startX = (panelW - Math.ceilDiv(COLS, lod) * cellSize) / 2;
+            startY = (panelH - Math.ceilDiv(ROWS, lod) * cellSize) / 2;
+        }
+        viewC0 = Math.clamp(colAt(0), 0, COLS);
+        viewC1 = Math.clamp((long) colAt(panelW - 1) + lod, 0, COLS);
+        viewR0 = Math.clamp(rowAt(0), 0, ROWS);
+        viewR1 = Math.clamp((long) rowAt(panelH - 1) + lod, 0, ROWS);
+    }
+
+    // Kolom/baris grid di bawah koordinat layar (boleh di luar grid); kelipatan lod
+    protected int colAt(int x) {
+        return Math.floorDiv(x - startX, cellSize) * lod;
+    }
+
+    protected int rowAt(int y) {
+        return Math.floorDiv(y - startY, cellSize) * lod;
+    }
+
+    // Koordinat layar pojok kiri atas sel
+    protected int cellX(int cell) {
+        return startX + grid.col(cell) / lod * cellSize;
+    }
+
+    protected int cellY(int cell) {
+        return startY + grid.row(cell) / lod * cellSize;
+    }
+
+    // Sel yang punya piksel sendiri di view: terlihat, dan saat lod > 1 hanya pojok kiri atas blok
+    private boolean isDrawn(int cell) {
+        int r = grid.row(cell), c = grid.col(cell);
+        return r >= viewR0 && r < viewR1 && c >= viewC0 && c < viewC1 && r % lod == 0 && c % lod == 0;
+    }
+
+    // Zoom di sekitar titik layar (x, y): steps > 0 = mendekat. Titik grid di bawah kursor tetap di tempat.
+    public void zoom(int steps, int x, int y) {
+        if (steps == 0) return;
+        calculateDimensions();
+        double gx = (x - startX) * (double) lod / cellSize;
+        double gy = (y - startY) * (double) lod / cellSize;
+        int maxLod = Math.max(1, Math.max(ROWS, COLS) / 64);
+        for (; steps > 0; steps--) {
+            if (lod > 1) lod = Math.max(1, Math.min(lod - 1, lod * 2 / 3));
+            else cellSize = Math.min(MAX_CELL_SIZE, Math.max(cellSize + 1, cellSize * 3 / 2));
+        }
+        for (; steps < 0; steps++) {
+            if (cellSize > 1) cellSize = Math.max(1, Math.min(cellSize - 1, cellSize * 2 / 3));
+            else lod = Math.min(maxLod, Math.max(lod + 1, lod * 3 / 2));
+        }
+        fitToView = false;
+        startX = (int) Math.round(x - gx * cellSize / lod);
+        startY = (int) Math.round(y - gy * cellSize / lod);
+        repaint();
+    }
+
+    public void pan(int dx, int dy) {
+        calculateDimensions();
+        fitToView = false;
+        startX += dx;
+        startY += dy;
+        repaint();
+    }
+
+    // Kembali ke tampilan seluruh grid
+    public void fitView() {
+        fitToView = true;
+        repaint();
+    }
+
+    // Kode mode tampilan layer statis; subclass mengganti kalau isi layer berbeda (mis. terrain)
+    protected int layerMode() {
+        return 0;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         calculateDimensions();
+        if (!ensureLayers()) return;
+        flushPending();
+        g.drawImage(frame, 0, 0, null);
+
         Graphics2D g2 = (Graphics2D) g;
         g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        drawMazeElements(g2);
+        drawDynamicLayer(g2);
+    }
+
+    private boolean ensureLayers() {
+        int w = getWidth(), h = getHeight();
+        if (w <= 0 || h <= 0) return false;
+        if (staticLayer == null || w != layerW || h != layerH || grid != layerGrid
+                || grid.version() != layerVersion || layerMode() != layerMode
+                || startX != layerX || startY != layerY || cellSize != layerCell || lod != layerLod) {
+            if (staticLayer == null || w != layerW || h != layerH) {
+                staticLayer = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+                frame = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+            }
+            Graphics2D sg = staticLayer.createGraphics();
+            sg.setColor(COLOR_BG);
+            sg.fillRect(0, 0, w, h);
+            sg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            if (cellSize < PIXEL_CELL_SIZE) drawPixelLayer(staticLayer);
+            else drawStaticLayer(sg);
+            sg.dispose();
+            layerW = w;
+            layerH = h;
+            layerX = startX;
+            layerY = startY;
+            layerCell = cellSize;
+            layerLod = lod;
+            layerGrid = grid;
+            layerVersion = grid.version();
+            layerMode = layerMode();
+            frameReset = true;
+        }
+        if (frameReset) {
+            Graphics2D fg = frame.createGraphics();
+            fg.drawImage(staticLayer, 0, 0, null);
+            for (int r = viewR0; r < viewR1; r += lod) {
+                for (int c = viewC0; c < viewC1; c += lod) {
+                    int i = grid.index(r, c);
+                    if (searchVisited[i]) drawSearchCell(fg, cellX(i), cellY(i));
+                }
+            }
+            fg.dispose();
+            pendingSize = 0;
+            frameReset = false;
+        }
+        return true;
+    }
+
+    // Gambar overlay sel yang baru dikunjungi ke frame (hanya sel yang berubah sejak frame lalu)
+    private void flushPending() {
+        if (pendingSize == 0) return;
+        Graphics2D fg = frame.createGraphics();
+        for (int k = 0; k < pendingSize; k++) {
+            int i = pendingCells[k];
+            drawSearchCell(fg, cellX(i), cellY(i));
+        }
+        fg.dispose();
+        pendingSize = 0;
     }
 
-    protected void drawMazeElements(Graphics2D g2) {
+    // Overlay sel yang sudah dikunjungi; inset supaya dinding di layer statis tetap terlihat
+    protected void drawSearchCell(Graphics2D g2, int x, int y) {
+        int inset = cellSize >= 8 ? 2 : 0;
+        g2.setColor(COLOR_SEARCH);
+        g2.fillRect(x + inset, y + inset, cellSize - 2 * inset, cellSize - 2 * inset);
+    }
+
+    // Dinding sel yang terlihat; dipanggil hanya saat layer statis dibangun ulang
+    protected void drawStaticLayer(Graphics2D g2) {
         g2.setColor(COLOR_WALL);
-        g2.setStroke(STROKE_WALL);
+        g2.setStroke(cellSize >= 12 ? STROKE_WALL : STROKE_WALL_THIN);
 
-        for(int r=0; r<ROWS; r++) {
-            for(int c=0; c<COLS; c++) {
+        for(int r=viewR0; r<viewR1; r++) {
+            for(int c=viewC0; c<viewC1; c++) {
                 int x = startX + c * cellSize;
                 int y = startY + r * cellSize;
+                int walls = grid.walls(grid.index(r, c));
 
-                if(grid[r][c].walls[0]) g2.drawLine(x, y, x+cellSize, y);
-                if(grid[r][c].walls[1]) g2.drawLine(x+cellSize, y, x+cellSize, y+cellSize);
-                if(grid[r][c].walls[2]) g2.drawLine(x+cellSize, y+cellSize, x, y+cellSize);
-                if(grid[r][c].walls[3]) g2.drawLine(x, y+cellSize, x, y);
+                if((walls & 1) != 0) g2.drawLine(x, y, x+cellSize, y);
+                if((walls & 2) != 0) g2.drawLine(x+cellSize, y, x+cellSize, y+cellSize);
+                if((walls & 4) != 0) g2.drawLine(x+cellSize, y+cellSize, x, y+cellSize);
+                if((walls & 8) != 0) g2.drawLine(x, y+cellSize, x, y);
+            }
+        }
+    }
 
-                if(grid[r][c].searchVisited && drawScan) {
-                    g2.setColor(COLOR_SEARCH);
-                    g2.fillRect(x+2, y+2, cellSize-4, cellSize-4);
-                    g2.setColor(COLOR_WALL);
+    // Level-of-detail: tiap piksel ditulis langsung ke raster. Sel 2-3 px = isi + piksel dinding kanan/bawah;
+    // 1 px per sel atau lebih kecil = warna sel dicampur kepadatan dinding, blok lod x lod diwakili 2x2 sampel.
+    // Biaya sebanding jumlah piksel panel, bukan jumlah sel.
+    private void drawPixelLayer(BufferedImage image) {
+        int[] rgb = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int w = image.getWidth(), h = image.getHeight();
+        int x0 = Math.max(0, startX), x1 = Math.min(w, startX + Math.ceilDiv(COLS, lod) * cellSize);
+        int y0 = Math.max(0, startY), y1 = Math.min(h, startY + Math.ceilDiv(ROWS, lod) * cellSize);
+        int wall = COLOR_WALL.getRGB();
+        int half = lod / 2;
+
+        for (int py = y0; py < y1; py++) {
+            int r = (py - startY) / cellSize * lod;
+            boolean bottomEdge = cellSize > 1 && (py - startY) % cellSize == cellSize - 1;
+            for (int px = x0; px < x1; px++) {
+                int c = (px - startX) / cellSize * lod;
+                int color;
+                if (lod == 1) {
+                    int cell = grid.index(r, c);
+                    if (cellSize == 1) {
+                        color = pixelColor(cell);
+                    } else {
+                        boolean rightEdge = (px - startX) % cellSize == cellSize - 1;
+                        int walls = grid.walls(cell);
+                        boolean isWall = (rightEdge && (walls & 2) != 0) || (bottomEdge && (walls & 4) != 0);
+                        color = isWall ? wall : cellColor(cell);
+                    }
+                } else {
+                    int r2 = Math.min(r + half, ROWS - 1), c2 = Math.min(c + half, COLS - 1);
+                    color = average(pixelColor(grid.index(r, c)), pixelColor(grid.index(r, c2)),
+                            pixelColor(grid.index(r2, c)), pixelColor(grid.index(r2, c2)));
                 }
+                rgb[py * w + px] = color;
             }
         }
+    }
 
-        if (startCell != null) {
-            g2.setColor(COLOR_START);
-            g2.fillRect(startX + startCell.c * cellSize + 5, startY + startCell.r * cellSize + 5, cellSize - 10, cellSize - 10);
-        }
-        if (endCell != null) {
-            g2.setColor(COLOR_END);
-            g2.fillRect(startX + endCell.c * cellSize + 5, startY + endCell.r * cellSize + 5, cellSize - 10, cellSize - 10);
-        }
+    // Warna dasar sel di mode piksel (RGB); subclass mengganti untuk terrain
+    protected int cellColor(int cell) {
+        return COLOR_BG.getRGB();
+    }
 
-        if (!finalPath.isEmpty()) {
+    // Warna sel dicampur warna dinding sesuai jumlah dindingnya (lorong = gelap, sel tertutup = terang)
+    private int pixelColor(int cell) {
+        int base = cellColor(cell), wall = COLOR_WALL.getRGB();
+        int k = Integer.bitCount(grid.walls(cell));
+        int rb = ((base >> 16 & 0xFF) * (8 - k) + (wall >> 16 & 0xFF) * k) >> 3;
+        int gb = ((base >> 8 & 0xFF) * (8 - k) + (wall >> 8 & 0xFF) * k) >> 3;
+        int bb = ((base & 0xFF) * (8 - k) + (wall & 0xFF) * k) >> 3;
+        return rb << 16 | gb << 8 | bb;
+    }
+
+    private static int average(int a, int b, int c, int d) {
+        int r = ((a >> 16 & 0xFF) + (b >> 16 & 0xFF) + (c >> 16 & 0xFF) + (d >> 16 & 0xFF)) >> 2;
+        int g = ((a >> 8 & 0xFF) + (b >> 8 & 0xFF) + (c >> 8 & 0xFF) + (d >> 8 & 0xFF)) >> 2;
+        int bl = ((a & 0xFF) + (b & 0xFF) + (c & 0xFF) + (d & 0xFF)) >> 2;
+        return r << 16 | g << 8 | bl;
+    }
+
+    // Start, end, dan jalur solusi; digambar di atas frame setiap paint (dibatasi clip area kotor)
+    protected void drawDynamicLayer(Graphics2D g2) {
+        drawMarker(g2, startCell, COLOR_START);
+        drawMarker(g2, endCell, COLOR_END);
+
+        if (finalPathSize > 0) {
             g2.setColor(COLOR_SOLUTION);
-            g2.setStroke(STROKE_PATH);
-            for (int i = 0; i < finalPath.size() - 1; i++) {
-                Cell a = finalPath.get(i);
-                Cell b = finalPath.get(i + 1);
-                g2.drawLine(startX + a.c*cellSize + cellSize/2, startY + a.r*cellSize + cellSize/2,
-                        startX + b.c*cellSize + cellSize/2, startY + b.r*cellSize + cellSize/2);
+            g2.setStroke(pathStroke());
+            int half = cellSize / 2;
+            // Sel bersebelahan: segmen hanya bisa terlihat kalau salah satu ujungnya dekat view,
+            // jadi cukup telusuri posisi jalur di baris dekat view
+            int r1 = Math.min(viewR1, ROWS - 1);
+            for (int r = Math.max(0, viewR0 - lod); r <= r1; r++) {
+                int[] at = pathByRow[r];
+                for (int k = 0; k < pathByRowSize[r]; k++) {
+                    int i = at[k];
+                    int a = finalPath[i];
+                    if (!nearView(a)) continue;
+                    if (i + 1 < finalPathSize) drawSegment(g2, a, finalPath[i + 1], half);
+                    // Segmen ke sel sebelumnya; kalau sel itu juga dekat view, segmennya sudah digambar dari sana
+                    if (i > 0 && !nearView(finalPath[i - 1])) drawSegment(g2, finalPath[i - 1], a, half);
+                }
             }
         }
     }
-}
\ No newline at end of file
+
+    private void drawSegment(Graphics2D g2, int a, int b, int half) {
+        g2.drawLine(cellX(a) + half, cellY(a) + half, cellX(b) + half, cellY(b) + half);
+    }
+
+    private Stroke pathStroke() {
+        if (cellSize >= 18) return STROKE_PATH;
+        if (pathStrokeSize != cellSize) {
+            pathStroke = new BasicStroke(Math.max(1, cellSize / 3));
+            pathStrokeSize = cellSize;
+        }
+        return pathStroke;
+    }
+
+    // Penanda start/end; di mode piksel dibuat minimal 7 px supaya tetap terlihat
+    private void drawMarker(Graphics2D g2, int cell, Color color) {
+        g2.setColor(color);
+        if (cellSize < PIXEL_CELL_SIZE) {
+            g2.fillRect(cellX(cell) + cellSize / 2 - 3, cellY(cell) + cellSize / 2 - 3, 7, 7);
+        } else {
+            int inset = cellSize >= 12 ? 5 : 1;
+            g2.fillRect(cellX(cell) + inset, cellY(cell) + inset, cellSize - 2 * inset, cellSize - 2 * inset);
+        }
+    }
+
+    private boolean nearView(int cell) {
+        int r = grid.row(cell), c = grid.col(cell);
+        return r >= viewR0 - lod && r <= viewR1 && c >= viewC0 - lod && c <= viewC1;
+    }
+}
@@ -1,6 +1,8 @@
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
+import java.nio.file.Path;
 
 public class MazeApp {
     public static void main(String[] args) {
@@ -47,21 +49,68 @@ public class MazeApp {
             genPanel.setOpaque(false);
             JButton btnStandard = createButton("1. Standard Maze", new Color(80, 80, 80));
             JButton btnTerrain = createButton("2. Terrain Map (Weighted)", new Color(34, 139, 34));
+            JButton btnFastPrim = createButton("3. Fast Prim (Seeded)", new Color(70, 90, 120));
+            JButton btnEller = createButton("4. Eller (Streaming)", new Color(90, 70, 120));
+            JButton btnTiled = createButton("5. Parallel Tiles", new Color(60, 100, 100));
             genPanel.add(btnStandard);
             genPanel.add(btnTerrain);
+            JButton btnSave = createButton("Save", new Color(60, 60, 60), 120);
+            JButton btnLoad = createButton("Load", new Color(60, 60, 60), 120);
+            JButton btnFit = createButton("Fit View", new Color(60, 60, 60), 120);
+            btnFit.setToolTipText("Drag to pan, mouse wheel to zoom");
+            genPanel.add(btnFastPrim);
+            genPanel.add(btnEller);
+            genPanel.add(btnTiled);
+            genPanel.add(btnSave);
+            genPanel.add(btnLoad);
+            genPanel.add(btnFit);
 
             JPanel solvePanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 15, 0));
             solvePanel.setOpaque(false);
-            JButton btnBFS = createButton("BFS", new Color(0, 100, 200));
-            JButton btnDFS = createButton("DFS", new Color(128, 0, 128));
-            JButton btnDijkstra = createButton("Dijkstra", new Color(200, 60, 0));
-            JButton btnAStar = createButton("A*", new Color(210, 180, 0));
+            JButton btnBFS = createButton("BFS", new Color(0, 100, 200), 120);
+            JButton btnDFS = createButton("DFS", new Color(128, 0, 128), 120);
+            JButton btnDijkstra = createButton("Dijkstra", new Color(200, 60, 0), 120);
+            JButton btnAStar = createButton("A*", new Color(210, 180, 0), 120);
             btnAStar.setForeground(Color.BLACK);
+            JButton btnBiBFS = createButton("Bi-BFS", new Color(0, 70, 140), 120);
+            JButton btnBiAStar = createButton("Bi-A*", new Color(160, 135, 0), 120);
+            btnBiAStar.setForeground(Color.BLACK);
+            JButton btnRace = createButton("Race All", new Color(90, 90, 90), 120);
+            JButton btnLpa = createButton("LPA*", new Color(150, 50, 90), 120);
+            JButton btnHpa = createButton("HPA*", new Color(110, 70, 40), 120);
+            btnHpa.setToolTipText("Hierarchical (approximate): abstract cluster graph, then refine");
+            btnLpa.setToolTipText("Incremental: edit walls (left click) or terrain (right click), path repairs itself");
+
+            JCheckBox chkDial = createCheckBox("Dial buckets");
+            JCheckBox chkContract = createCheckBox("Contract corridors");
+            JCheckBox chkParallel = createCheckBox("Parallel BFS");
+            JCheckBox chkAlt = createCheckBox("ALT landmarks");
+            JCheckBox chkTree = createCheckBox("Cached tree");
+            chkTree.setToolTipText("BFS/Dijkstra build a shortest-path tree from start once; Ctrl+click moves the target");
+            JCheckBox chkTurbo = createCheckBox("Turbo");
+
+            // Kecepatan playback: jumlah langkah solver per frame (60 fps)
+            JSlider sldSpeed = new JSlider(1, 50, 2);
+            sldSpeed.setOpaque(false);
+            sldSpeed.setPreferredSize(new Dimension(120, 45));
+            sldSpeed.setToolTipText("Steps per frame");
 
             solvePanel.add(btnBFS);
             solvePanel.add(btnDFS);
             solvePanel.add(btnDijkstra);
             solvePanel.add(btnAStar);
+            solvePanel.add(btnBiBFS);
+            solvePanel.add(btnBiAStar);
+            solvePanel.add(btnRace);
+            solvePanel.add(btnLpa);
+            solvePanel.add(btnHpa);
+            solvePanel.add(chkDial);
+            solvePanel.add(chkContract);
+            solvePanel.add(chkParallel);
+            solvePanel.add(chkAlt);
+            solvePanel.add(chkTree);
+            solvePanel.add(chkTurbo);
+            solvePanel.add(sldSpeed);
 
             controlPanel.add(genPanel);
             controlPanel.add(solvePanel);
@@ -69,10 +118,47 @@ public class MazeApp {
             // Listeners
             btnStandard.addActionListener(_ -> mazePanel.generatePrim());
             btnTerrain.addActionListener(_ -> mazePanel.generateWeightedTerrain());
-            btnBFS.addActionListener(_ -> mazePanel.solve(true));
+            btnFastPrim.addActionListener(_ -> mazePanel.generatePrimFast(System.nanoTime()));
+            btnEller.addActionListener(_ -> mazePanel.generateEller(System.nanoTime()));
+            btnTiled.addActionListener(_ -> mazePanel.generateTiled(System.nanoTime()));
+            JFileChooser chooser = new JFileChooser();
+            chooser.setFileFilter(new FileNameExtensionFilter("Maze files (*.maze)", "maze"));
+            btnSave.addActionListener(_ -> {
+                if (chooser.showSaveDialog(frame) == JFileChooser.APPROVE_OPTION) {
+                    String file = chooser.getSelectedFile().getPath();
+                    mazePanel.saveMaze(Path.of(file.endsWith(".maze") ? file : file + ".maze"));
+                }
+            });
+            btnLoad.addActionListener(_ -> {
+                if (chooser.showOpenDialog(frame) == JFileChooser.APPROVE_OPTION) {
+                    mazePanel.loadMaze(chooser.getSelectedFile().toPath());
+                }
+            });
+            btnFit.addActionListener(_ -> mazePanel.fitView());
+            btnBFS.addActionListener(_ -> {
+                if (chkTree.isSelected()) mazePanel.solveTree(false);
+                else if (chkContract.isSelected()) mazePanel.solveContracted(false, false);
+                else if (chkParallel.isSelected()) mazePanel.solveParallel();
+                else mazePanel.solve(true);
+            });
             btnDFS.addActionListener(_ -> mazePanel.solve(false));
-            btnDijkstra.addActionListener(_ -> mazePanel.solveWeighted(false));
-            btnAStar.addActionListener(_ -> mazePanel.solveWeighted(true));
+            btnDijkstra.addActionListener(_ -> {
+                if (chkTree.isSelected()) mazePanel.solveTree(true);
+                else if (chkContract.isSelected()) mazePanel.solveContracted(true, false);
+                else mazePanel.solveWeighted(false, chkDial.isSelected());
+            });
+            btnAStar.addActionListener(_ -> {
+                if (chkContract.isSelected()) mazePanel.solveContracted(true, true);
+                else if (chkAlt.isSelected()) mazePanel.solveAlt();
+                else mazePanel.solveWeighted(true, chkDial.isSelected());
+            });
+            btnBiBFS.addActionListener(_ -> mazePanel.solveBidirectional());
+            btnBiAStar.addActionListener(_ -> mazePanel.solveWeightedBidirectional());
+            btnRace.addActionListener(_ -> mazePanel.raceAll());
+            btnLpa.addActionListener(_ -> mazePanel.solveIncremental());
+            btnHpa.addActionListener(_ -> mazePanel.solveHierarchical());
+            chkTurbo.addActionListener(_ -> mazePanel.setTurbo(chkTurbo.isSelected()));
+            sldSpeed.addChangeListener(_ -> mazePanel.setPlaybackSpeed(60, sldSpeed.getValue()));
 
             // Layout Utama
             frame.setLayout(new BorderLayout());
@@ -86,6 +172,10 @@ public class MazeApp {
     }
 
     private static JButton createButton(String text, Color bg) {
+        return createButton(text, bg, 200);
+    }
+
+    private static JButton createButton(String text, Color bg, int width) {
         JButton btn = new JButton(text);
         btn.setFont(new Font("SansSerif", Font.BOLD, 14));
         btn.setBackground(bg);
@@ -94,7 +184,16 @@ public class MazeApp {
         btn.setContentAreaFilled(true);
         btn.setBorderPainted(false);
         btn.setFocusPainted(false);
-        btn.setPreferredSize(new Dimension(200, 45));
+        btn.setPreferredSize(new Dimension(width, 45));
         return btn;
     }
+
+    private static JCheckBox createCheckBox(String text) {
+        JCheckBox chk = new JCheckBox(text);
+        chk.setFont(new Font("SansSerif", Font.BOLD, 14));
+        chk.setForeground(Color.WHITE);
+        chk.setOpaque(false);
+        chk.setFocusPainted(false);
+        return chk;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+import core.BatchRunner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Entry point headless (tanpa Swing) untuk sweep eksperimen di server, contoh:
+//   java -cp maze.jar MazeBatch --size 40x30 --generator prim --loops 120 --terrain 60/25
+//        --solvers bfs,dijkstra,astar --seeds 1..100000 --format csv --out results.csv
+// Tanpa --out hasil ditulis ke stdout; ringkasan throughput ke stderr.
+// --size ditulis COLSxROWS (40x30 = 30 baris x 40 kolom), sama seperti Maze dan parameter size di bench.
+public class MazeBatch {
+
+    private static final String USAGE = """
+            Usage: MazeBatch [options]
+              --size COLSxROWS    maze size, width x height (default 40x30)
+              --generator NAME    prim | classic | tiled | eller (default prim)
+              --loops N           extra walls removed per maze (default 120)
+              --terrain G/M       grass/mud percent, rest water (default 60/25; 100/0 = no terrain)
+              --terrain-mode M    noise (coherent regions) | random (per cell) (default noise)
+              --solvers A,B,...   bfs dfs bibfs dijkstra astar dial bi-astar corridor alt hpa lpa tree
+                                  or all (default bfs,dijkstra,astar)
+              --seeds A..B        inclusive seed range (default 1..1000)
+              --threads N         worker threads (default: available processors)
+              --format csv|jsonl  output format (default csv)
+              --out FILE          output file (default stdout)
+            """;
+
+    public static void main(String[] args) throws Exception {
+        BatchRunner.Config config;
+        Path outFile;
+        try {
+            Map<String, String> opts = parse(args);
+            config = config(opts);
+            outFile = opts.containsKey("out") ? Path.of(opts.get("out")) : null;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        BatchRunner.Summary summary;
+        try (Writer out = open(outFile)) {
+            summary = BatchRunner.run(config, out);
+        }
+        System.err.printf("%,d seeds, %,d runs in %.1f ms (%,.0f runs/s, %d threads)%n",
+                summary.seeds(), summary.runs(), summary.wallNanos() / 1e6, summary.runsPerSecond(), config.threads());
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--help") || args[i].equals("-h")) {
+                throw new IllegalArgumentException("MazeBatch: headless maze/solver experiment runner");
+            }
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Invalid argument: " + args[i]);
+            }
+            opts.put(args[i].substring(2), args[++i]);
+        }
+        return opts;
+    }
+
+    private static BatchRunner.Config config(Map<String, String> opts) {
+        String[] size = opts.getOrDefault("size", "40x30").toLowerCase(Locale.ROOT).split("x", -1);
+        String[] terrain = opts.getOrDefault("terrain", "60/25").split("/", -1);
+        String[] seeds = opts.getOrDefault("seeds", "1..1000").split("\\.\\.", -1);
+        if (size.length != 2 || terrain.length != 2 || seeds.length != 2) {
+            throw new IllegalArgumentException("Expected --size COLSxROWS, --terrain G/M and --seeds A..B");
+        }
+        String solverList = opts.getOrDefault("solvers", "bfs,dijkstra,astar");
+        List<String> solvers = solverList.equalsIgnoreCase("all") ? BatchRunner.SOLVERS
+                : Arrays.stream(solverList.split(",")).map(s -> s.trim().toLowerCase(Locale.ROOT)).toList();
+        boolean noise = switch (opts.getOrDefault("terrain-mode", "noise").toLowerCase(Locale.ROOT)) {
+            case "noise" -> true;
+            case "random" -> false;
+            default -> throw new IllegalArgumentException("Unknown terrain mode: " + opts.get("terrain-mode"));
+        };
+        BatchRunner.Format format = switch (opts.getOrDefault("format", "csv").toLowerCase(Locale.ROOT)) {
+            case "csv" -> BatchRunner.Format.CSV;
+            case "jsonl" -> BatchRunner.Format.JSONL;
+            default -> throw new IllegalArgumentException("Unknown format: " + opts.get("format"));
+        };
+        try {
+            return new BatchRunner.Config(
+                    Integer.parseInt(size[1].trim()), Integer.parseInt(size[0].trim()),
+                    opts.getOrDefault("generator", "prim").toLowerCase(Locale.ROOT),
+                    Integer.parseInt(opts.getOrDefault("loops", "120")),
+                    Integer.parseInt(terrain[0].trim()) / 100.0, Integer.parseInt(terrain[1].trim()) / 100.0, noise,
+                    solvers,
+                    Long.parseLong(seeds[0].trim()), Long.parseLong(seeds[1].trim()),
+                    Integer.parseInt(opts.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                    format);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + e.getMessage());
+        }
+    }
+
+    private static Writer open(Path file) throws IOException {
+        if (file == null) return new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    }
+}
@@ -1,213 +1,269 @@
+import core.AltSolver;
+import core.BidirectionalAStarSolver;
+import core.CorridorSolver;
+import core.DialSolver;
+import core.DijkstraSolver;
+import core.HpaSolver;
+import core.JobScheduler;
+import core.LpaStarSolver;
+import core.NoiseTerrain;
+import core.PathResult;
+import core.SolveMetrics;
+import core.Solver;
+import core.SolverRace;
+import core.StepLog;
+import core.Terrain;
+import core.TreeSolver;
+import core.UnweightedSolver;
+
+import javax.swing.*;
 import java.awt.*;
 import java.util.*;
+import java.util.List;
 
 public class WeightedMaze extends Maze {
 
-    private static final int COST_GRASS = 1;
-    private static final int COST_MUD = 5;
-    private static final int COST_WATER = 10;
+    private static final int COST_MUD = Terrain.COST_MUD;
+    private static final int COST_WATER = Terrain.COST_WATER;
 
     private final Color C_GRASS = new Color(0, 100, 0);
     private final Color C_MUD = new Color(139, 69, 19);
     private final Color C_WATER = new Color(0, 0, 205);
+    private final Color C_LABEL = new Color(255, 255, 255, 180);
+    private final Color C_VISITED = new Color(255, 255, 255, 100);
+    private Font labelFont;
 
-    private final int[][] terrainGrid;
     private boolean useTerrainMode = false;
 
+    // LPA* berbobot terrain (instance terpisah karena biaya sel berbeda dari mode unweighted)
+    private final LpaStarSolver weightedLpaSolver = new LpaStarSolver(true);
+
+    // Solver graf kontraksi disimpan supaya graf junction-nya di-cache antar query
+    private final CorridorSolver[] corridorSolvers = new CorridorSolver[4];
+    private final AltSolver[] altSolvers = new AltSolver[2];
+
+    // HPA* dengan cluster kecil supaya terlihat di maze UI; cluster yang diedit dibangun ulang sendiri
+    private static final int HPA_CLUSTER_SIZE = 8;
+    private final HpaSolver[] hpaSolvers = new HpaSolver[2];
+
     public WeightedMaze() {
         super();
-        terrainGrid = new int[ROWS][COLS];
     }
 
-    @Override
-    public void generatePrim() {
-        useTerrainMode = false;
-        super.generatePrim();
+    public WeightedMaze(int rows, int cols) {
+        super(rows, cols);
     }
 
-    public void generateWeightedTerrain() {
-        if (isGenerating || isSolving) return;
-        useTerrainMode = true;
-
-        // 1. Generate Struktur Dasar (Perfect Maze)
-        super.generatePrim();
+    // Dipanggil di EDT di awal setiap job generate
+    @Override
+    protected void setTerrainMode(boolean terrain) {
+        useTerrainMode = terrain;
+    }
 
-        new Thread(() -> {
-            try { Thread.sleep(200); } catch(Exception _){} // Tunggu Prim selesai visualisasi kasar
+    @Override
+    protected void discardSolverState() {
+        super.discardSolverState();
+        weightedLpaSolver.invalidate();
+        for (HpaSolver hpa : hpaSolvers) {
+            if (hpa != null) hpa.invalidate();
+        }
+    }
 
-            Random rand = new Random();
+    @Override
+    public void solveIncremental() {
+        if (useTerrainMode) solveWeighted(weightedLpaSolver);
+        else super.solveIncremental();
+    }
 
-            // 2. Assign Weights (Terrain)
-            for (int r = 0; r < ROWS; r++) {
-                for (int c = 0; c < COLS; c++) {
-                    double p = rand.nextDouble();
-                    if (p < 0.60) terrainGrid[r][c] = COST_GRASS;
-                    else if (p < 0.85) terrainGrid[r][c] = COST_MUD;
-                    else terrainGrid[r][c] = COST_WATER;
-                }
-            }
-            terrainGrid[0][0] = COST_GRASS;
-            terrainGrid[ROWS-1][COLS-1] = COST_GRASS;
-
-            // 3. [PENTING] Tambahkan Loops agar ada banyak jalur alternatif!
-            // Kita acak menghapus dinding tambahan sebanyak 10% dari total sel
-            addLoops(rand);
-
-            if (statsCallback != null) statsCallback.accept("Terrain Generated with Loops.\nMultiple paths available for comparison.");
-            repaint();
-        }).start();
-    }
-
-    // Method Baru: Menghapus dinding secara acak untuk membuat jalur alternatif
-    private void addLoops(Random rand) {
-        int removed = 0;
-        while (removed < 120) {
-            int r = rand.nextInt(ROWS - 2) + 1; // Hindari pinggir
-            int c = rand.nextInt(COLS - 2) + 1;
-
-            Cell cell = grid[r][c];
-            // Pilih dinding acak untuk dihapus (0=Top, 1=Right, 2=Bottom, 3=Left)
-            int wallIdx = rand.nextInt(4);
-
-            // Cek apakah dinding itu masih ada
-            if (cell.walls[wallIdx]) {
-                // Tentukan tetangga di seberang dinding
-                int nr = r, nc = c;
-                if (wallIdx == 0) nr--;
-                else if (wallIdx == 1) nc++;
-                else if (wallIdx == 2) nr++;
-                else {
-                    nc--;
-                }
+    // Klik kanan: grass -> mud -> water -> grass
+    @Override
+    protected boolean editTerrain(int cell) {
+        int w = grid.terrain(cell);
+        int next = w == Terrain.COST_GRASS ? COST_MUD : w == COST_MUD ? COST_WATER : Terrain.COST_GRASS;
+        grid.setTerrain(cell, next);
+        cellEdited(cell);
+        useTerrainMode = true;
+        repaint();
+        return true;
+    }
 
-                // Pastikan koordinat tetangga valid
-                if (isValid(nr, nc)) {
-                    Cell neighbor = grid[nr][nc];
-                    // Hapus dinding di kedua sisi (cell & neighbor)
-                    removeWalls(cell, neighbor);
-                    removed++;
-                }
-            }
+    @Override
+    protected void cellEdited(int cell) {
+        super.cellEdited(cell);
+        weightedLpaSolver.cellChanged(grid, cell);
+        for (HpaSolver hpa : hpaSolvers) {
+            if (hpa != null) hpa.cellChanged(grid, cell);
         }
     }
 
-    public void solveWeighted(boolean useAStar) {
-        if (isGenerating || isSolving) return;
-
-        isSolving = true;
-        resetSolver();
-        String algoName = useAStar ? "A* (A-Star)" : "Dijkstra";
-        if (statsCallback != null) statsCallback.accept("Running " + algoName + "...");
+    // Mode terrain aktif kalau file berisi bobot selain grass
+    @Override
+    protected void mazeLoaded() {
+        useTerrainMode = false;
+        for (int i = 0; i < grid.size() && !useTerrainMode; i++) {
+            useTerrainMode = grid.terrain(i) != Terrain.COST_GRASS;
+        }
+    }
 
-        new Thread(() -> {
-            Map<Cell, Integer> dist = new HashMap<>();
-            Map<Cell, Cell> parent = new HashMap<>();
-            PriorityQueue<double[]> pq = new PriorityQueue<>(Comparator.comparingDouble(a -> a[0]));
+    // Dua langkah berantai dalam satu job: terrain baru ditaruh setelah Prim benar-benar selesai
+    public void generateWeightedTerrain() {
+        jobs.submit(JobScheduler.Kind.GENERATE, "Terrain map",
+                // 1. Generate Struktur Dasar (Perfect Maze)
+                () -> runClassicPrim(true),
+                () -> {
+                    Random rand = new Random();
+
+                    // 2. Assign Weights (Terrain): noise koheren, jadi rumput/lumpur/air membentuk area
+                    new NoiseTerrain(rand.nextLong()).assign(grid, 0.60, 0.25);
+
+                    // 3. [PENTING] Tambahkan Loops agar ada banyak jalur alternatif!
+                    // Kita acak menghapus dinding tambahan sebanyak 10% dari total sel
+                    Terrain.addLoops(grid, rand, 120);
+
+                    if (statsCallback != null) statsCallback.accept("Terrain Generated with Loops.\nMultiple paths available for comparison.");
+                    repaint();
+                });
+    }
 
-            for(int r=0; r<ROWS; r++)
-                for(int c=0; c<COLS; c++) dist.put(grid[r][c], Integer.MAX_VALUE);
+    public void solveWeighted(boolean useAStar) {
+        solveWeighted(useAStar, false);
+    }
 
-            dist.put(startCell, 0);
-            pq.add(new double[]{0, startCell.r, startCell.c});
+    // useDial = pakai bucket queue (Dial) sebagai pengganti binary heap
+    public void solveWeighted(boolean useAStar, boolean useDial) {
+        solveWeighted(useDial ? new DialSolver(useAStar, useTerrainMode) : new DijkstraSolver(useAStar, useTerrainMode));
+    }
 
-            boolean found = false;
-            int visitedNodesCount = 0;
+    public void solveWeightedBidirectional() {
+        solveWeighted(new BidirectionalAStarSolver(true, useTerrainMode));
+    }
 
-            while (!pq.isEmpty()) {
-                double[] currData = pq.poll();
-                Cell current = grid[(int)currData[1]][(int)currData[2]];
+    // Solve di graf junction (koridor dikontraksi); weightedSearch = Dijkstra/A*, selain itu BFS
+    public void solveContracted(boolean weightedSearch, boolean useAStar) {
+        if (weightedSearch) solveWeighted(corridorSolver(useAStar, useTerrainMode));
+        else solve(corridorSolver(false, false));
+    }
 
-                if (current == endCell) {
-                    found = true;
-                    break;
-                }
+    // A* dengan heuristik landmark; tabel jarak di-cache selama maze tidak berubah
+    public void solveAlt() {
+        int key = useTerrainMode ? 1 : 0;
+        if (altSolvers[key] == null) altSolvers[key] = new AltSolver(useTerrainMode);
+        solveWeighted(altSolvers[key]);
+    }
 
-                // Optimization: Skip jika kita sudah menemukan rute lebih baik ke node ini
-                if (useAStar) {
-                    dist.get(current);
-                    heuristic(current, endCell);
-                } else {
-                    dist.get(current);
-                }// continue;
-
-                if (!current.searchVisited) {
-                    current.searchVisited = true;
-                    visitedNodesCount++;
-                    if (visitedNodesCount % 5 == 0) visualize(1);
-                }
+    // Pathfinding hierarkis: A* di graf cluster lalu refine; jalur bisa sedikit di atas optimal
+    public void solveHierarchical() {
+        solveWeighted(hpaSolver(useTerrainMode));
+    }
 
-                for (Cell neighbor : getConnectedNeighbors(current)) {
-                    int cost = useTerrainMode ? terrainGrid[neighbor.r][neighbor.c] : 1;
-                    int newDist = dist.get(current) + cost;
+    // weighted = Dijkstra dengan biaya terrain (kalau mode terrain aktif), selain itu BFS
+    @Override
+    public void solveTree(boolean weighted) {
+        if (weighted) solveWeighted(new TreeSolver(useTerrainMode, treeCache));
+        else super.solveTree(false);
+    }
 
-                    if (newDist < dist.get(neighbor)) {
-                        dist.put(neighbor, newDist);
-                        parent.put(neighbor, current);
+    private HpaSolver hpaSolver(boolean weighted) {
+        int key = weighted ? 1 : 0;
+        if (hpaSolvers[key] == null) hpaSolvers[key] = new HpaSolver(weighted, HPA_CLUSTER_SIZE);
+        return hpaSolvers[key];
+    }
 
-                        double priority = newDist;
-                        if(useAStar) priority += heuristic(neighbor, endCell);
+    private CorridorSolver corridorSolver(boolean aStar, boolean weighted) {
+        int key = (aStar ? 1 : 0) | (weighted ? 2 : 0);
+        if (corridorSolvers[key] == null) corridorSolvers[key] = new CorridorSolver(aStar, weighted);
+        return corridorSolvers[key];
+    }
 
-                        pq.add(new double[]{priority, neighbor.r, neighbor.c});
-                    }
+    public void solveWeighted(Solver solver) {
+        String algoName = solver.name();
+        jobs.submit(JobScheduler.Kind.SOLVE, algoName, () -> {
+            StepLog log = new StepLog();
+            SolveMetrics metrics = runSolve(solver, log);
+            PathResult res = metrics.result();
+
+            playback(log, res.path(), () -> {
+                if (res.found()) {
+                    String result = String.format("""
+                        Algorithm: %s
+                        ----------------
+                        Status: Finished
+                        Total Cost: %d
+                        Nodes Visited: %d
+                        Efficiency: %.2f%%
+                        Solve Time: %.3f ms
+                        %s
+                        (Map has Loops)
+                        """, algoName, res.cost(), res.expanded(), ((double) res.expanded() /(ROWS*COLS))*100,
+                            metrics.millis(), frontierStats(metrics));
+
+                    if (statsCallback != null) statsCallback.accept(result + treeStats(solver));
                 }
-            }
-
-            if (found) {
-                reconstructPath(parent.get(endCell), parent);
-
-                int finalCost = dist.get(endCell);
-
-                String result = String.format("""
-                    Algorithm: %s
-                    ----------------
-                    Status: Finished
-                    Total Cost: %d
-                    Nodes Visited: %d
-                    Efficiency: %.2f%%
-                    (Map has Loops)
-                    """, algoName, finalCost, visitedNodesCount, ((double) visitedNodesCount /(ROWS*COLS))*100);
+                isSolving = false;
+            });
+        });
+    }
 
-                if (statsCallback != null) statsCallback.accept(result);
+    // Race: BFS, DFS, Dijkstra, dan A* berjalan paralel di atas maze yang sama (read-only)
+    public void raceAll() {
+        jobs.submit(JobScheduler.Kind.SOLVE, "Race", () -> {
+            beginSolve("race: BFS, DFS, Dijkstra, A*", null);
+            List<Solver> solvers = List.of(
+                    new UnweightedSolver(true),
+                    new UnweightedSolver(false),
+                    new DijkstraSolver(false, useTerrainMode),
+                    new DijkstraSolver(true, useTerrainMode));
+            SolverRace.Result race = SolverRace.run(grid, startCell, endCell, solvers, useTerrainMode);
+
+            StringBuilder sb = new StringBuilder("Race (parallel)\n----------------\n");
+            for (SolverRace.Entry e : race.entries()) {
+                sb.append(String.format("%s%n  Cost: %d  Nodes: %d%n  Time: %.3f ms%n",
+                        e.result().algorithm(), e.pathCost(), e.result().expanded(), e.millis()));
             }
-            isSolving = false;
-            repaint();
-        }).start();
+            sb.append(String.format("----------------%nWall Time: %.3f ms%nSequential: %.3f ms%n",
+                    race.wallMillis(), race.sequentialMillis()));
+
+            // Tampilkan jalur termurah (Dijkstra/A*), bukan bergantung pada posisi solver di daftar
+            SolverRace.Entry best = race.cheapest();
+            int[] path = best != null ? best.result().path() : new int[0];
+            SwingUtilities.invokeLater(() -> {
+                for (int cell : path) addPathCell(cell);
+                if (statsCallback != null) statsCallback.accept(sb.toString());
+                isSolving = false;
+                repaint();
+            });
+        });
     }
 
-    private double heuristic(Cell a, Cell b) {
-        return (Math.abs(a.r - b.r) + Math.abs(a.c - b.c));
+    // Terrain mode hanya menandai sel yang di-expand (frontier tidak diwarnai)
+    @Override
+    protected void applyStep(int event) {
+        if (StepLog.isExpand(event)) markVisited(event);
     }
 
-    private void reconstructPath(Cell curr, Map<Cell, Cell> parent) {
-        while (curr != null) {
-            finalPath.add(curr);
-            curr = parent.get(curr);
-            visualize(15);
-        }
-        Collections.reverse(finalPath);
+    @Override
+    protected int layerMode() {
+        return useTerrainMode ? 1 : 0;
     }
 
+    // Terrain + label bobot di bawah dinding; hanya dibangun ulang saat maze/ukuran berubah
     @Override
-    protected void paintComponent(Graphics g) {
-        super.calculateDimensions();
-
+    protected void drawStaticLayer(Graphics2D g2) {
         if (!useTerrainMode) {
-            this.drawScan = true;
-            super.paintComponent(g);
+            super.drawStaticLayer(g2);
             return;
         }
 
-        this.drawScan = false;
-
-        Graphics2D g2 = (Graphics2D) g;
-        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        g2.setFont(new Font("SansSerif", Font.BOLD, Math.max(10, cellSize / 2)));
+        if (labelFont == null || labelFont.getSize() != Math.max(10, cellSize / 2)) {
+            labelFont = new Font("SansSerif", Font.BOLD, Math.max(10, cellSize / 2));
+        }
+        g2.setFont(labelFont);
         FontMetrics fm = g2.getFontMetrics();
 
-        for (int r = 0; r < ROWS; r++) {
-            for (int c = 0; c < COLS; c++) {
-                int w = terrainGrid[r][c];
+        for (int r = viewR0; r < viewR1; r++) {
+            for (int c = viewC0; c < viewC1; c++) {
+                int i = grid.index(r, c);
+                int w = grid.terrain(i);
 
                 if (w == COST_MUD) g2.setColor(C_MUD);
                 else if (w == COST_WATER) g2.setColor(C_WATER);
@@ -216,20 +272,36 @@ public class WeightedMaze extends Maze {
 
                 // Gambar Angka Bobot
                 if (cellSize > 15) {
-                    g2.setColor(new Color(255, 255, 255, 180));
+                    g2.setColor(C_LABEL);
                     String text = String.valueOf(w);
                     int textX = startX + c * cellSize + (cellSize - fm.stringWidth(text)) / 2;
                     int textY = startY + r * cellSize + ((cellSize - fm.getHeight()) / 2) + fm.getAscent();
                     g2.drawString(text, textX, textY);
                 }
-
-                if (grid[r][c].searchVisited) {
-                    g2.setColor(new Color(255, 255, 255, 100));
-                    g2.fillRect(startX + c * cellSize, startY + r * cellSize, cellSize, cellSize);
-                }
             }
         }
 
-        super.drawMazeElements(g2);
+        super.drawStaticLayer(g2);
+    }
+
+    // Mode piksel (zoom out): warna terrain tanpa label
+    @Override
+    protected int cellColor(int cell) {
+        if (!useTerrainMode) return super.cellColor(cell);
+        int w = grid.terrain(cell);
+        if (w == COST_MUD) return C_MUD.getRGB();
+        if (w == COST_WATER) return C_WATER.getRGB();
+        return C_GRASS.getRGB();
+    }
+
+    @Override
+    protected void drawSearchCell(Graphics2D g2, int x, int y) {
+        if (!useTerrainMode) {
+            super.drawSearchCell(g2, x, y);
+            return;
+        }
+        int inset = cellSize >= 8 ? 2 : 0;
+        g2.setColor(C_VISITED);
+        g2.fillRect(x + inset, y + inset, cellSize - 2 * inset, cellSize - 2 * inset);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package core;
+
+import java.util.Arrays;
+
+// A* dengan heuristik ALT: batas bawah dari tabel jarak landmark (lihat Landmarks).
+// Jauh lebih ketat daripada Manhattan di terrain berbobot, jadi ekspansi turun drastis
+// untuk query berulang. Tabel di-cache per grid dan dibangun ulang saat version() berubah.
+public final class AltSolver implements Solver {
+
+    public static final int DEFAULT_LANDMARKS = 8;
+
+    private final boolean weighted;
+    private final int landmarkCount;
+
+    private Landmarks landmarks;
+    private int[] dist = new int[0];
+    private int[] parent = new int[0];
+    private long[] closed = new long[0];
+    private final IndexedMinHeap heap = new IndexedMinHeap(0);
+    private final SearchCounters counters = new SearchCounters();
+
+    public AltSolver(boolean weighted) {
+        this(weighted, DEFAULT_LANDMARKS);
+    }
+
+    public AltSolver(boolean weighted, int landmarkCount) {
+        this.weighted = weighted;
+        this.landmarkCount = landmarkCount;
+    }
+
+    @Override
+    public String name() {
+        return "A* (ALT)";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    // Tabel landmark untuk grid ini, dibangun ulang hanya kalau grid berganti atau berubah
+    public Landmarks landmarks(MazeModel grid) {
+        if (landmarks == null || landmarks.grid != grid || landmarks.isStale()) {
+            landmarks = Landmarks.build(grid, Math.min(landmarkCount, grid.size()), weighted);
+        }
+        return landmarks;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        Landmarks lm = landmarks(grid);
+        int n = grid.size();
+        if (dist.length < n) {
+            dist = new int[n];
+            parent = new int[n];
+            closed = Bits.create(n);
+            heap.ensureCapacity(n);
+        }
+        Arrays.fill(dist, 0, n, Integer.MAX_VALUE);
+        Arrays.fill(closed, 0);
+        heap.clear();
+        counters.reset();
+
+        dist[source] = 0;
+        parent[source] = -1;
+        heap.pushOrDecrease(source, lm.lowerBound(source, target));
+        counters.push(1);
+
+        int expanded = 0;
+        while (!heap.isEmpty()) {
+            int current = heap.pop();
+            counters.pops++;
+            if (current == target) {
+                return new PathResult(name(), true, dist[target], expanded, PathResult.trace(parent, target));
+            }
+            Bits.set(closed, current);
+            expanded++;
+            if (listener != null) listener.onExpand(current);
+
+            int base = dist[current];
+            for (int d = 0; d < 4; d++) {
+                int next = grid.passage(current, d);
+                if (next < 0 || Bits.get(closed, next)) continue;
+
+                int newDist = base + (weighted ? grid.terrain(next) : 1);
+                if (newDist < dist[next]) {
+                    dist[next] = newDist;
+                    parent[next] = current;
+                    boolean fresh = !heap.contains(next);
+                    if (listener != null && fresh) listener.onDiscover(next);
+                    heap.pushOrDecrease(next, (long) newDist + lm.lowerBound(next, target));
+                    counters.relaxations++;
+                    if (fresh) counters.push(heap.size());
+                }
+            }
+        }
+        return PathResult.notFound(name(), expanded);
+    }
+}
@@ -0,0 +1,198 @@
+package core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sweep eksperimen headless: untuk setiap seed, generate maze (+ loop & terrain), lalu jalankan
+// setiap solver dari (0,0) ke pojok kanan bawah. Seed dibagi ke worker lewat counter atomik;
+// tiap worker punya grid & instance solver sendiri yang dipakai ulang antar seed.
+// Satu baris per run (seed x solver) langsung ditulis ke out begitu seed selesai (urutan bebas),
+// jadi memori tidak bertambah dengan jumlah seed.
+public final class BatchRunner {
+
+    public enum Format { CSV, JSONL }
+
+    public static final List<String> GENERATORS = List.of("prim", "classic", "tiled", "eller");
+    public static final List<String> SOLVERS = List.of("bfs", "dfs", "bibfs", "dijkstra", "astar", "dial",
+            "bi-astar", "corridor", "alt", "hpa", "lpa", "tree");
+
+    // pGrass >= 1 = tanpa terrain (semua rumput, solver berbobot sama dengan unweighted);
+    // noise = terrain koheren (NoiseTerrain), selain itu acak per sel (Terrain.assignRandom)
+    public record Config(int rows, int cols, String generator, int loops, double pGrass, double pMud, boolean noise,
+                         List<String> solvers, long firstSeed, long lastSeed, int threads, Format format) {
+
+        public Config {
+            if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+            if (!GENERATORS.contains(generator)) throw new IllegalArgumentException("Unknown generator: " + generator);
+            if (loops < 0) throw new IllegalArgumentException("Invalid loop count: " + loops);
+            if (pGrass < 0 || pMud < 0 || pGrass + pMud > 1) {
+                throw new IllegalArgumentException("Invalid terrain probabilities: " + pGrass + "/" + pMud);
+            }
+            if (solvers.isEmpty()) throw new IllegalArgumentException("No solvers");
+            for (String s : solvers) {
+                if (!SOLVERS.contains(s)) throw new IllegalArgumentException("Unknown solver: " + s);
+            }
+            if (lastSeed < firstSeed) throw new IllegalArgumentException("Empty seed range: " + firstSeed + ".." + lastSeed);
+            if (threads <= 0) throw new IllegalArgumentException("Invalid thread count: " + threads);
+            solvers = List.copyOf(solvers);
+        }
+
+        public boolean terrain() {
+            return pGrass < 1;
+        }
+
+        // Nilai kolom terrain_mode: none | noise | random
+        public String terrainMode() {
+            return !terrain() ? "none" : noise ? "noise" : "random";
+        }
+
+        public long seeds() {
+            return lastSeed - firstSeed + 1;
+        }
+    }
+
+    public record Summary(long seeds, long runs, long wallNanos) {
+
+        public double runsPerSecond() {
+            return wallNanos == 0 ? 0 : runs * 1e9 / wallNanos;
+        }
+    }
+
+    // Parameter terrain & thread ikut di tiap baris supaya hasil beberapa sweep bisa digabung dan dibandingkan
+    private static final String[] COLUMNS = {"seed", "generator", "rows", "cols", "loops", "p_grass", "p_mud",
+            "terrain_mode", "threads", "gen_ns", "solver", "found", "cost", "expanded", "relaxations", "pushes",
+            "pops", "peak_frontier", "solve_ns", "alloc_bytes"};
+
+    private BatchRunner() {}
+
+    public static Summary run(Config config, Writer out) throws IOException, InterruptedException {
+        if (config.format() == Format.CSV) {
+            out.write(String.join(",", COLUMNS));
+            out.write('\n');
+        }
+        AtomicLong next = new AtomicLong(config.firstSeed());
+        long t0 = System.nanoTime();
+
+        List<Callable<Long>> workers = new ArrayList<>(config.threads());
+        for (int i = 0; i < config.threads(); i++) workers.add(() -> work(config, next, out));
+        long runs = 0;
+        try (ExecutorService pool = Executors.newFixedThreadPool(config.threads())) {
+            for (Future<Long> f : pool.invokeAll(workers)) runs += f.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            throw new IllegalStateException("Batch run failed", e.getCause());
+        }
+        out.flush();
+        return new Summary(config.seeds(), runs, System.nanoTime() - t0);
+    }
+
+    // Loop worker: ambil seed berikutnya sampai range habis; baris satu seed ditulis sekaligus
+    private static long work(Config config, AtomicLong next, Writer out) {
+        try (MazeModel grid = MazeModel.allocate(config.rows(), config.cols())) {
+            return work(config, grid, next, out);
+        }
+    }
+
+    private static long work(Config config, MazeModel grid, AtomicLong next, Writer out) {
+        List<String> names = config.solvers();
+        Solver[] solvers = new Solver[names.size()];
+        for (int i = 0; i < solvers.length; i++) solvers[i] = solver(names.get(i), config.terrain());
+        int target = grid.size() - 1;
+        StringBuilder rows = new StringBuilder(256 * solvers.length);
+
+        long runs = 0;
+        for (long seed = next.getAndIncrement(); seed <= config.lastSeed(); seed = next.getAndIncrement()) {
+            long t0 = System.nanoTime();
+            generator(config.generator(), seed).generate(grid);
+            Random rand = new Random(seed);
+            // Urutan sama dengan generateWeightedTerrain: terrain dulu, lalu loop
+            if (config.terrain() && config.noise()) {
+                // Maze kecil (<= 64 baris) dikerjakan langsung di thread worker ini, tanpa fork
+                new NoiseTerrain(rand.nextLong()).assign(grid, config.pGrass(), config.pMud());
+            } else if (config.terrain()) {
+                Terrain.assignRandom(grid, rand, config.pGrass(), config.pMud());
+            }
+            if (config.loops() > 0) Terrain.addLoops(grid, rand, config.loops());
+            long genNanos = System.nanoTime() - t0;
+
+            rows.setLength(0);
+            for (int i = 0; i < solvers.length; i++) {
+                SolveMetrics m = Metrics.solve(solvers[i], grid, 0, target);
+                appendRow(rows, config, seed, genNanos, names.get(i), m);
+            }
+            synchronized (out) {
+                try {
+                    out.append(rows);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            runs += solvers.length;
+        }
+        return runs;
+    }
+
+    private static void appendRow(StringBuilder sb, Config config, long seed, long genNanos, String solver, SolveMetrics m) {
+        PathResult res = m.result();
+        Object[] values = {seed, config.generator(), config.rows(), config.cols(), config.loops(), config.pGrass(),
+                config.pMud(), config.terrainMode(), config.threads(), genNanos, solver,
+                res.found(), res.cost(), res.expanded(), m.relaxations(), m.pushes(), m.pops(), m.peakFrontier(),
+                m.nanos(), m.allocatedBytes()};
+        if (config.format() == Format.CSV) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(values[i]);
+            }
+        } else {
+            sb.append('{');
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append('"').append(COLUMNS[i]).append("\":");
+                // Nama generator, solver & terrain_mode berasal dari daftar tetap, tidak perlu escape
+                if (values[i] instanceof String s) sb.append('"').append(s).append('"');
+                else sb.append(values[i]);
+            }
+            sb.append('}');
+        }
+        sb.append('\n');
+    }
+
+    public static MazeGenerator generator(String name, long seed) {
+        return switch (name) {
+            case "prim" -> new PrimGenerator(seed);
+            case "classic" -> new ClassicPrimGenerator(seed);
+            case "tiled" -> new TiledPrimGenerator(seed);
+            case "eller" -> new EllerGenerator(seed);
+            default -> throw new IllegalArgumentException("Unknown generator: " + name);
+        };
+    }
+
+    // weighted = biaya terrain untuk solver yang mendukungnya
+    public static Solver solver(String name, boolean weighted) {
+        return switch (name) {
+            case "bfs" -> new UnweightedSolver(true);
+            case "dfs" -> new UnweightedSolver(false);
+            case "bibfs" -> new BidirectionalBfsSolver();
+            case "dijkstra" -> new DijkstraSolver(false, weighted);
+            case "astar" -> new DijkstraSolver(true, weighted);
+            case "dial" -> new DialSolver(false, weighted);
+            case "bi-astar" -> new BidirectionalAStarSolver(true, weighted);
+            case "corridor" -> new CorridorSolver(false, weighted);
+            case "alt" -> new AltSolver(weighted);
+            case "hpa" -> new HpaSolver(weighted);
+            case "lpa" -> new LpaStarSolver(weighted);
+            case "tree" -> new TreeSolver(weighted);
+            default -> throw new IllegalArgumentException("Unknown solver: " + name);
+        };
+    }
+}
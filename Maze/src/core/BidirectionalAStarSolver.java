@@ -0,0 +1,130 @@
+package core;
+
+import java.util.Arrays;
+
+// A* dua arah dengan potensial rata-rata (consistent):
+//   pF(v) = (hT(v) - hS(v)) / 2,  pB(v) = -pF(v)
+// hS/hT = Manhattan ke start/target. Key disimpan dikali 2 supaya tetap integer:
+//   keyF(v) = 2 gF(v) + hT(v) - hS(v),  keyB(v) = 2 gB(v) + hS(v) - hT(v)
+// Biaya tereduksi tidak negatif karena biaya edge >= 1, sehingga pencarian boleh
+// berhenti saat topF + topB >= 2 * mu (mu = jalur terbaik yang sudah bertemu).
+// Dengan aStar = false potensialnya nol (Dijkstra dua arah biasa).
+//
+// Biaya edge u -> v = terrain(v); pencarian mundur dari x ke y memakai biaya terrain(x).
+public final class BidirectionalAStarSolver implements Solver {
+
+    private final boolean aStar;
+    private final boolean weighted;
+
+    private int[] gF = new int[0], gB = new int[0];
+    private int[] parentF = new int[0], parentB = new int[0];
+    private long[] closedF = new long[0], closedB = new long[0];
+    private final IndexedMinHeap heapF = new IndexedMinHeap(0);
+    private final IndexedMinHeap heapB = new IndexedMinHeap(0);
+    private final SearchCounters counters = new SearchCounters();
+
+    public BidirectionalAStarSolver(boolean aStar, boolean weighted) {
+        this.aStar = aStar;
+        this.weighted = weighted;
+    }
+
+    @Override
+    public String name() {
+        return aStar ? "Bi-A*" : "Bi-Dijkstra";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        int n = grid.size();
+        if (gF.length < n) {
+            gF = new int[n];
+            gB = new int[n];
+            parentF = new int[n];
+            parentB = new int[n];
+            closedF = Bits.create(n);
+            closedB = Bits.create(n);
+            heapF.ensureCapacity(n);
+            heapB.ensureCapacity(n);
+        }
+        Arrays.fill(gF, 0, n, Integer.MAX_VALUE);
+        Arrays.fill(gB, 0, n, Integer.MAX_VALUE);
+        Arrays.fill(closedF, 0);
+        Arrays.fill(closedB, 0);
+        heapF.clear();
+        heapB.clear();
+        counters.reset();
+
+        int cols = grid.cols();
+        int sr = source / cols, sc = source % cols;
+        int tr = target / cols, tc = target % cols;
+
+        gF[source] = 0;
+        parentF[source] = -1;
+        heapF.pushOrDecrease(source, potential(source, cols, sr, sc, tr, tc));
+        gB[target] = 0;
+        parentB[target] = -1;
+        heapB.pushOrDecrease(target, -potential(target, cols, sr, sc, tr, tc));
+        counters.push(1);
+        counters.push(2);
+
+        long mu = Long.MAX_VALUE;
+        int meet = source == target ? source : -1;
+        if (meet >= 0) mu = 0;
+        int expanded = 0;
+
+        while (!heapF.isEmpty() && !heapB.isEmpty()) {
+            if (mu != Long.MAX_VALUE && heapF.peekKey() + heapB.peekKey() >= 2 * mu) break;
+
+            boolean forward = heapF.peekKey() <= heapB.peekKey();
+            IndexedMinHeap heap = forward ? heapF : heapB;
+            int[] g = forward ? gF : gB;
+            int[] other = forward ? gB : gF;
+            int[] parent = forward ? parentF : parentB;
+            long[] closed = forward ? closedF : closedB;
+            int sign = forward ? 1 : -1;
+
+            int u = heap.pop();
+            counters.pops++;
+            Bits.set(closed, u);
+            expanded++;
+            if (listener != null) listener.onExpand(u);
+
+            // Maju: biaya masuk v. Mundur: biaya masuk u (edge v -> u di arah maju).
+            int backwardCost = weighted ? grid.terrain(u) : 1;
+            for (int d = 0; d < 4; d++) {
+                int v = grid.passage(u, d);
+                if (v < 0 || Bits.get(closed, v)) continue;
+                int cost = forward ? (weighted ? grid.terrain(v) : 1) : backwardCost;
+                int ng = g[u] + cost;
+                if (ng < g[v]) {
+                    boolean fresh = !heap.contains(v);
+                    if (listener != null && fresh) listener.onDiscover(v);
+                    g[v] = ng;
+                    parent[v] = u;
+                    heap.pushOrDecrease(v, 2L * ng + sign * potential(v, cols, sr, sc, tr, tc));
+                    counters.relaxations++;
+                    if (fresh) counters.push(heapF.size() + heapB.size());
+                }
+                if (other[v] != Integer.MAX_VALUE && (long) g[v] + other[v] < mu) {
+                    mu = (long) g[v] + other[v];
+                    meet = v;
+                }
+            }
+        }
+
+        if (meet < 0) return PathResult.notFound(name(), expanded);
+        return new PathResult(name(), true, (int) mu, expanded, BidirectionalBfsSolver.join(parentF, parentB, meet));
+    }
+
+    // 2 * pF(v) = hT(v) - hS(v)
+    private long potential(int cell, int cols, int sr, int sc, int tr, int tc) {
+        if (!aStar) return 0;
+        int r = cell / cols, c = cell % cols;
+        return (Math.abs(r - tr) + Math.abs(c - tc)) - (Math.abs(r - sr) + Math.abs(c - sc));
+    }
+}
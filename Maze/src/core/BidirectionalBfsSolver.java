@@ -0,0 +1,106 @@
+package core;
+
+import java.util.Arrays;
+
+// BFS dua arah: frontier tumbuh dari start dan dari target, selalu mengembangkan
+// satu level penuh dari sisi yang frontier-nya lebih kecil. Begitu satu level
+// menemukan sel yang sudah dicapai sisi lain, jalur terpendek sudah pasti
+// (panjangnya = level depan + 1 + level belakang), jadi pencarian berhenti.
+public final class BidirectionalBfsSolver implements Solver {
+
+    private int[] distF = new int[0], distB = new int[0];
+    private int[] parentF = new int[0], parentB = new int[0];
+    private int[] queueF = new int[0], queueB = new int[0];
+    private final SearchCounters counters = new SearchCounters();
+
+    @Override
+    public String name() {
+        return "Bi-BFS";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        int n = grid.size();
+        if (distF.length < n) {
+            distF = new int[n];
+            distB = new int[n];
+            parentF = new int[n];
+            parentB = new int[n];
+            queueF = new int[n];
+            queueB = new int[n];
+        }
+        Arrays.fill(distF, 0, n, -1);
+        Arrays.fill(distB, 0, n, -1);
+        counters.reset();
+
+        if (source == target) return new PathResult(name(), true, 0, 1, new int[]{source});
+
+        // head/tail per sisi; level berikutnya = [levelEnd, tail)
+        int headF = 0, tailF = 0, headB = 0, tailB = 0;
+        queueF[tailF++] = source;
+        distF[source] = 0;
+        parentF[source] = -1;
+        queueB[tailB++] = target;
+        distB[target] = 0;
+        parentB[target] = -1;
+        counters.push(1);
+        counters.push(2);
+
+        int expanded = 0;
+        int best = Integer.MAX_VALUE, meet = -1;
+
+        while (headF < tailF && headB < tailB) {
+            boolean forward = tailF - headF <= tailB - headB;
+            int[] queue = forward ? queueF : queueB;
+            int[] dist = forward ? distF : distB;
+            int[] other = forward ? distB : distF;
+            int[] parent = forward ? parentF : parentB;
+
+            int head = forward ? headF : headB;
+            int tail = forward ? tailF : tailB;
+            int levelEnd = tail;
+            int otherSize = forward ? tailB - headB : tailF - headF;
+            while (head < levelEnd) {
+                int u = queue[head++];
+                counters.pops++;
+                expanded++;
+                if (listener != null) listener.onExpand(u);
+                for (int d = 0; d < 4; d++) {
+                    int v = grid.passage(u, d);
+                    if (v < 0 || dist[v] >= 0) continue;
+                    dist[v] = dist[u] + 1;
+                    parent[v] = u;
+                    queue[tail++] = v;
+                    counters.relaxations++;
+                    counters.push(tail - head + otherSize);
+                    if (listener != null) listener.onDiscover(v);
+                    if (other[v] >= 0 && dist[v] + other[v] < best) {
+                        best = dist[v] + other[v];
+                        meet = v;
+                    }
+                }
+            }
+            if (forward) { headF = head; tailF = tail; } else { headB = head; tailB = tail; }
+            if (meet >= 0) {
+                return new PathResult(name(), true, best, expanded, join(parentF, parentB, meet));
+            }
+        }
+        return PathResult.notFound(name(), expanded);
+    }
+
+    // Gabungkan rantai parent depan (start..meet) dan belakang (meet..target)
+    static int[] join(int[] parentF, int[] parentB, int meet) {
+        int[] head = PathResult.trace(parentF, meet);
+        int tailLength = 0;
+        for (int c = parentB[meet]; c >= 0; c = parentB[c]) tailLength++;
+        int[] path = Arrays.copyOf(head, head.length + tailLength);
+        int i = head.length;
+        for (int c = parentB[meet]; c >= 0; c = parentB[c]) path[i++] = c;
+        return path;
+    }
+}
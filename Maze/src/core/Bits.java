@@ -0,0 +1,23 @@
+package core;
+
+// Helper bitset di atas long[] (tanpa objek BitSet di loop panas)
+final class Bits {
+
+    private Bits() {}
+
+    static long[] create(int n) {
+        return new long[(n + 63) >>> 6];
+    }
+
+    static boolean get(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+}
@@ -0,0 +1,69 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+// Prim versi awal dari Maze.generatePrim: frontier ArrayList dengan contains/remove O(n).
+// Dipertahankan untuk animasi di UI dan sebagai baseline benchmark.
+public final class ClassicPrimGenerator implements MazeGenerator {
+
+    // Urutan arah sama seperti versi lama: atas, bawah, kiri, kanan
+    private static final int[] DIRS = {MazeModel.TOP, MazeModel.BOTTOM, MazeModel.LEFT, MazeModel.RIGHT};
+
+    private final long seed;
+    private final IntConsumer onCarve;
+
+    public ClassicPrimGenerator(long seed) {
+        this(seed, null);
+    }
+
+    // onCarve dipanggil setiap kali satu sel baru masuk ke maze (untuk animasi)
+    public ClassicPrimGenerator(long seed, IntConsumer onCarve) {
+        this.seed = seed;
+        this.onCarve = onCarve;
+    }
+
+    @Override
+    public String name() {
+        return "Prim (classic)";
+    }
+
+    @Override
+    public GenerationStats generate(MazeModel grid) {
+        long t0 = System.nanoTime();
+        grid.reset();
+
+        boolean[] visited = new boolean[grid.size()];
+        ArrayList<Integer> frontier = new ArrayList<>();
+        Random rand = new Random(seed);
+        visited[0] = true;
+        addFrontier(grid, visited, 0, frontier);
+
+        while (!frontier.isEmpty()) {
+            int current = frontier.remove(rand.nextInt(frontier.size()));
+            List<Integer> neighbors = new ArrayList<>();
+            for (int d : DIRS) {
+                int n = grid.neighbor(current, d);
+                if (n >= 0 && visited[n]) neighbors.add(n);
+            }
+            if (!neighbors.isEmpty()) {
+                int neighbor = neighbors.get(rand.nextInt(neighbors.size()));
+                grid.removeWall(current, grid.direction(current, neighbor));
+                visited[current] = true;
+                addFrontier(grid, visited, current, frontier);
+                if (onCarve != null) onCarve.accept(current);
+            }
+        }
+        grid.openEntranceAndExit();
+        return new GenerationStats(name(), seed, grid.size(), System.nanoTime() - t0);
+    }
+
+    private static void addFrontier(MazeModel grid, boolean[] visited, int cell, ArrayList<Integer> frontier) {
+        for (int d : DIRS) {
+            int n = grid.neighbor(cell, d);
+            if (n >= 0 && !visited[n] && !frontier.contains(n)) frontier.add(n);
+        }
+    }
+}
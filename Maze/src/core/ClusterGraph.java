@@ -0,0 +1,292 @@
+package core;
+
+import java.util.Arrays;
+
+// Graf abstrak HPA*: grid dipotong jadi cluster clusterSize x clusterSize.
+// Di tiap batas dua cluster, deretan lorong terbuka yang bersebelahan (run) menjadi transisi:
+// satu di tengah run, atau dua di ujung-ujungnya kalau run panjang. Sel ujung transisi = node.
+// portal[cell] menyimpan bit arah transisi keluar dari sel itu (edge antar cluster, biaya = terrain tujuan).
+// Per cluster disimpan daftar node (urut indeks sel) dan matriks biaya intra-cluster k x k
+// hasil Dijkstra yang dibatasi di dalam cluster (biaya masuk sel = terrain).
+public final class ClusterGraph {
+
+    static final int INF = Integer.MAX_VALUE;
+
+    // Run sepanjang ini atau lebih mendapat dua transisi (di kedua ujung)
+    private static final int LONG_RUN = 6;
+
+    final MazeModel grid;
+    final boolean weighted;
+    final int clusterSize;
+    final int clusterRows, clusterCols;
+    int version;
+
+    final byte[] portal;
+    final int[][] nodes;
+    final int[][] intra;
+
+    private final LocalSearch search;
+
+    private ClusterGraph(MazeModel grid, int clusterSize, boolean weighted) {
+        this.grid = grid;
+        this.weighted = weighted;
+        this.clusterSize = clusterSize;
+        this.clusterRows = (grid.rows() + clusterSize - 1) / clusterSize;
+        this.clusterCols = (grid.cols() + clusterSize - 1) / clusterSize;
+        this.portal = new byte[grid.size()];
+        this.nodes = new int[clusterRows * clusterCols][];
+        this.intra = new int[nodes.length][];
+        this.search = new LocalSearch(this);
+        this.version = grid.version();
+    }
+
+    public static ClusterGraph build(MazeModel grid, int clusterSize, boolean weighted) {
+        if (clusterSize < 2) throw new IllegalArgumentException("Invalid cluster size: " + clusterSize);
+        ClusterGraph g = new ClusterGraph(grid, clusterSize, weighted);
+        for (int c = 0; c < g.nodes.length; c++) {
+            if (g.clusterCol(c) + 1 < g.clusterCols) g.scanBorder(c, MazeModel.RIGHT);
+            if (g.clusterRow(c) + 1 < g.clusterRows) g.scanBorder(c, MazeModel.BOTTOM);
+        }
+        for (int c = 0; c < g.nodes.length; c++) g.buildCluster(c);
+        return g;
+    }
+
+    public boolean isStale() {
+        return grid.version() != version;
+    }
+
+    public int clusterCount() {
+        return nodes.length;
+    }
+
+    public int nodeCount() {
+        int total = 0;
+        for (int[] n : nodes) total += n.length;
+        return total;
+    }
+
+    public int clusterOf(int cell) {
+        int cols = grid.cols();
+        return cell / cols / clusterSize * clusterCols + cell % cols / clusterSize;
+    }
+
+    // Hitung ulang satu cluster setelah sel di dalamnya berubah: transisi di keempat batasnya,
+    // lalu node & biaya intra cluster ini dan tetangganya (node di batas bersama bisa berubah)
+    public void rebuildCluster(int c) {
+        int cr = clusterRow(c), cc = clusterCol(c);
+        if (cc + 1 < clusterCols) scanBorder(c, MazeModel.RIGHT);
+        if (cr + 1 < clusterRows) scanBorder(c, MazeModel.BOTTOM);
+        if (cc > 0) scanBorder(c - 1, MazeModel.RIGHT);
+        if (cr > 0) scanBorder(c - clusterCols, MazeModel.BOTTOM);
+
+        buildCluster(c);
+        if (cc + 1 < clusterCols) buildCluster(c + 1);
+        if (cc > 0) buildCluster(c - 1);
+        if (cr + 1 < clusterRows) buildCluster(c + clusterCols);
+        if (cr > 0) buildCluster(c - clusterCols);
+    }
+
+    int clusterRow(int c) { return c / clusterCols; }
+    int clusterCol(int c) { return c % clusterCols; }
+    int rowStart(int c) { return clusterRow(c) * clusterSize; }
+    int colStart(int c) { return clusterCol(c) * clusterSize; }
+    int height(int c) { return Math.min(clusterSize, grid.rows() - rowStart(c)); }
+    int width(int c) { return Math.min(clusterSize, grid.cols() - colStart(c)); }
+
+    int cost(int cell) {
+        return weighted ? grid.terrain(cell) : 1;
+    }
+
+    // Posisi sel di daftar node cluster-nya, atau -1 kalau bukan node
+    int nodeIndex(int c, int cell) {
+        int i = Arrays.binarySearch(nodes[c], cell);
+        return i >= 0 ? i : -1;
+    }
+
+    // Tentukan transisi di batas kanan (RIGHT) atau bawah (BOTTOM) cluster c.
+    // Run = lorong terbuka berturut-turut yang sel-selnya juga tersambung sepanjang batas
+    // di kedua sisi, jadi satu transisi per run tidak memutus konektivitas (penting di maze).
+    private void scanBorder(int c, int dir) {
+        int length = dir == MazeModel.RIGHT ? height(c) : width(c);
+        int along = dir == MazeModel.RIGHT ? MazeModel.BOTTOM : MazeModel.RIGHT;
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean open = false, joined = false;
+            if (i < length) {
+                int a = borderCell(c, dir, i);
+                int b = grid.neighbor(a, dir);
+                portal[a] &= (byte) ~(1 << dir);
+                portal[b] &= (byte) ~(1 << MazeModel.opposite(dir));
+                open = !grid.hasWall(a, dir);
+                if (open && runStart >= 0) {
+                    int pa = borderCell(c, dir, i - 1);
+                    joined = !grid.hasWall(pa, along) && !grid.hasWall(grid.neighbor(pa, dir), along);
+                }
+            }
+            if (runStart >= 0 && !joined) {
+                closeRun(c, dir, runStart, i - runStart);
+                runStart = -1;
+            }
+            if (open && runStart < 0) runStart = i;
+        }
+    }
+
+    private void closeRun(int c, int dir, int start, int length) {
+        if (length >= LONG_RUN) {
+            markTransition(borderCell(c, dir, start), dir);
+            markTransition(borderCell(c, dir, start + length - 1), dir);
+        } else {
+            markTransition(borderCell(c, dir, start + length / 2), dir);
+        }
+    }
+
+    private int borderCell(int c, int dir, int i) {
+        return dir == MazeModel.RIGHT
+                ? grid.index(rowStart(c) + i, colStart(c) + width(c) - 1)
+                : grid.index(rowStart(c) + height(c) - 1, colStart(c) + i);
+    }
+
+    private void markTransition(int a, int dir) {
+        portal[a] |= (byte) (1 << dir);
+        portal[grid.neighbor(a, dir)] |= (byte) (1 << MazeModel.opposite(dir));
+    }
+
+    private void buildCluster(int c) {
+        int r0 = rowStart(c), c0 = colStart(c), h = height(c), w = width(c);
+        int count = 0;
+        for (int r = r0; r < r0 + h; r++) {
+            for (int col = c0; col < c0 + w; col++) if (portal[grid.index(r, col)] != 0) count++;
+        }
+        int[] list = new int[count];
+        count = 0;
+        for (int r = r0; r < r0 + h; r++) {
+            for (int col = c0; col < c0 + w; col++) {
+                int cell = grid.index(r, col);
+                if (portal[cell] != 0) list[count++] = cell;
+            }
+        }
+
+        int[] costs = new int[count * count];
+        for (int i = 0; i < count; i++) {
+            search.run(c, list[i], -1, false);
+            for (int j = 0; j < count; j++) costs[i * count + j] = search.dist(list[j]);
+        }
+        nodes[c] = list;
+        intra[c] = costs;
+    }
+
+    // Dijkstra / A* yang dibatasi di dalam satu cluster, indeks lokal = lr * width + lc.
+    // reverse = jarak sel -> source (biaya masuk sel asal), untuk menghubungkan target ke node.
+    static final class LocalSearch {
+        private final ClusterGraph g;
+        private final int[] dist;
+        private final int[] parent;
+        private final IndexedMinHeap heap;
+        private int cluster, r0, c0, w, h;
+        int expanded;
+        final SearchCounters counters = new SearchCounters();
+
+        LocalSearch(ClusterGraph g) {
+            this.g = g;
+            int cap = g.clusterSize * g.clusterSize;
+            dist = new int[cap];
+            parent = new int[cap];
+            heap = new IndexedMinHeap(cap);
+        }
+
+        // target >= 0: berhenti saat target di-pop (A* Manhattan), selain itu isi semua jarak
+        void run(int c, int source, int target, boolean reverse) {
+            MazeModel grid = g.grid;
+            cluster = c;
+            r0 = g.rowStart(c);
+            c0 = g.colStart(c);
+            w = g.width(c);
+            h = g.height(c);
+            Arrays.fill(dist, 0, w * h, INF);
+            heap.clear();
+
+            int cols = grid.cols();
+            int tr = target >= 0 ? target / cols : 0, tc = target >= 0 ? target % cols : 0;
+            int s = local(source);
+            dist[s] = 0;
+            parent[s] = -1;
+            heap.pushOrDecrease(s, 0);
+            counters.push(1);
+            while (!heap.isEmpty()) {
+                int u = heap.pop();
+                int cell = global(u);
+                expanded++;
+                counters.pops++;
+                if (cell == target) return;
+                int step = reverse ? g.cost(cell) : 0;
+                for (int d = 0; d < 4; d++) {
+                    int next = grid.passage(cell, d);
+                    if (next < 0 || !inside(next)) continue;
+                    int v = local(next);
+                    int nd = dist[u] + (reverse ? step : g.cost(next));
+                    if (nd < dist[v]) {
+                        dist[v] = nd;
+                        parent[v] = u;
+                        long key = nd;
+                        if (target >= 0) key += Math.abs(next / cols - tr) + Math.abs(next % cols - tc);
+                        boolean fresh = !heap.contains(v);
+                        heap.pushOrDecrease(v, key);
+                        counters.relaxations++;
+                        if (fresh) counters.push(heap.size());
+                    }
+                }
+            }
+        }
+
+        int dist(int cell) {
+            return dist[local(cell)];
+        }
+
+        // Sel dari source sampai target (tanpa source), ditambahkan ke out
+        void appendPath(int target, IntList out) {
+            int from = out.size();
+            for (int u = local(target); parent[u] >= 0; u = parent[u]) out.add(global(u));
+            out.reverse(from);
+        }
+
+        private boolean inside(int cell) {
+            return g.clusterOf(cell) == cluster;
+        }
+
+        private int local(int cell) {
+            int cols = g.grid.cols();
+            return (cell / cols - r0) * w + (cell % cols - c0);
+        }
+
+        private int global(int u) {
+            return g.grid.index(r0 + u / w, c0 + u % w);
+        }
+    }
+
+    // Daftar int sederhana untuk merakit jalur hasil refinement
+    static final class IntList {
+        private int[] data = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        int size() { return size; }
+
+        void clear() { size = 0; }
+
+        void reverse(int from) {
+            for (int i = from, j = size - 1; i < j; i++, j--) {
+                int t = data[i];
+                data[i] = data[j];
+                data[j] = t;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
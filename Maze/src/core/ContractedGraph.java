@@ -0,0 +1,112 @@
+package core;
+
+import java.util.Arrays;
+
+// Graf junction hasil kontraksi koridor. Node = sel dengan derajat != 2
+// (persimpangan dan jalan buntu); setiap koridor sel berderajat 2 di antaranya
+// menjadi satu edge berbobot. Edge disimpan 4 slot per node, satu per arah keluar.
+//
+// Biaya terrain bergantung arah (biaya masuk sel), jadi edge menyimpan jumlah
+// bobot sel di DALAM koridor saja; biaya A -> B = inner + terrain(B).
+public final class ContractedGraph {
+
+    final MazeModel grid;
+    final int version;
+
+    final int[] nodeId;     // per sel, -1 jika sel koridor
+    final int[] nodeCell;   // per node
+    final int nodeCount;
+
+    final int[] edgeTo;     // per node * 4 + arah, -1 jika tidak ada
+    final int[] edgeInner;  // jumlah terrain sel di dalam koridor
+    final int[] edgeLength; // jumlah langkah
+    final long[] deadEnd;   // node berderajat 1: tidak mungkin jadi node perantara
+
+    private ContractedGraph(MazeModel grid, int[] nodeId, int[] nodeCell, int nodeCount) {
+        this.grid = grid;
+        this.version = grid.version();
+        this.nodeId = nodeId;
+        this.nodeCell = nodeCell;
+        this.nodeCount = nodeCount;
+        this.edgeTo = new int[nodeCount * 4];
+        this.edgeInner = new int[nodeCount * 4];
+        this.edgeLength = new int[nodeCount * 4];
+        this.deadEnd = Bits.create(nodeCount);
+        Arrays.fill(edgeTo, -1);
+    }
+
+    public static ContractedGraph build(MazeModel grid) {
+        int n = grid.size();
+        int[] nodeId = new int[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            nodeId[i] = grid.degree(i) != 2 ? count++ : -1;
+        }
+        int[] nodeCell = new int[count];
+        for (int i = 0; i < n; i++) {
+            if (nodeId[i] >= 0) nodeCell[nodeId[i]] = i;
+        }
+
+        ContractedGraph g = new ContractedGraph(grid, nodeId, nodeCell, count);
+        for (int node = 0; node < count; node++) {
+            if (grid.degree(nodeCell[node]) <= 1) Bits.set(g.deadEnd, node);
+        }
+        Walk walk = new Walk();
+        for (int node = 0; node < count; node++) {
+            int cell = nodeCell[node];
+            for (int d = 0; d < 4; d++) {
+                if (grid.passage(cell, d) < 0) continue;
+                g.walk(cell, d, -1, walk);
+                if (walk.end < 0) continue;
+                int slot = node * 4 + d;
+                g.edgeTo[slot] = nodeId[walk.end];
+                g.edgeInner[slot] = walk.inner;
+                g.edgeLength[slot] = walk.length;
+            }
+        }
+        return g;
+    }
+
+    public int nodeCount() { return nodeCount; }
+
+    public boolean isStale() {
+        return grid.version() != version;
+    }
+
+    // Hasil penelusuran satu koridor
+    static final class Walk {
+        int end;      // sel akhir (node, atau stop), -1 jika koridor berputar tanpa node
+        int inner;    // jumlah terrain sel di antara awal dan akhir
+        int length;   // jumlah langkah
+        int lastDir;  // arah langkah terakhir (masuk ke end)
+        boolean hitStop;
+    }
+
+    // Telusuri koridor dari cell ke arah dir sampai bertemu node atau sel stop
+    void walk(int cell, int dir, int stop, Walk out) {
+        int prev = cell;
+        int cur = grid.passage(cell, dir);
+        int lastDir = dir;
+        int inner = 0, length = 1;
+        while (cur != stop && nodeId[cur] < 0) {
+            if (cur == cell) { // koridor melingkar tanpa node
+                out.end = -1;
+                return;
+            }
+            inner += grid.terrain(cur);
+            int next = -1;
+            for (int d = 0; d < 4; d++) {
+                int nb = grid.passage(cur, d);
+                if (nb >= 0 && nb != prev) { next = nb; lastDir = d; break; }
+            }
+            prev = cur;
+            cur = next;
+            length++;
+        }
+        out.end = cur;
+        out.inner = inner;
+        out.length = length;
+        out.lastDir = lastDir;
+        out.hitStop = cur == stop;
+    }
+}
@@ -0,0 +1,240 @@
+package core;
+
+import java.util.Arrays;
+
+// Dijkstra / A* di atas ContractedGraph, lalu jalur node diurai kembali menjadi jalur sel.
+// Graf kontraksi di-cache dan baru dibangun ulang saat maze berubah (MazeModel.version),
+// jadi query berulang pada maze yang sama hanya membayar pencarian di graf kecil.
+// weighted = false memberi hasil yang sama dengan BFS (panjang jalur dalam langkah).
+//
+// Start/target yang berada di tengah koridor disambungkan ke node di kedua ujung koridornya.
+public final class CorridorSolver implements Solver {
+
+    private final boolean aStar;
+    private final boolean weighted;
+
+    private ContractedGraph graph;
+
+    private int[] dist = new int[0];
+    private int[] parent = new int[0];    // node induk
+    private int[] parentDir = new int[0]; // arah keluar dari node induk
+    private long[] closed = new long[0];
+    private final IndexedMinHeap heap = new IndexedMinHeap(0);
+    private final SearchCounters counters = new SearchCounters();
+    private final ContractedGraph.Walk walk = new ContractedGraph.Walk();
+
+    // Titik sambung target: node, biaya node -> target, arah dari node ke koridor target
+    private final int[] anchorNode = new int[2];
+    private final int[] anchorCost = new int[2];
+    private final int[] anchorDir = new int[2];
+    private int anchorCount;
+
+    public CorridorSolver(boolean aStar, boolean weighted) {
+        this.aStar = aStar;
+        this.weighted = weighted;
+    }
+
+    @Override
+    public String name() {
+        if (!weighted) return "Contracted BFS";
+        return aStar ? "Contracted A*" : "Contracted Dijkstra";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    // Graf kontraksi untuk grid ini, dibangun ulang hanya jika grid berubah
+    public ContractedGraph graph(MazeModel grid) {
+        if (graph == null || graph.grid != grid || graph.isStale()) {
+            graph = ContractedGraph.build(grid);
+            int m = graph.nodeCount();
+            if (dist.length < m) {
+                dist = new int[m];
+                parent = new int[m];
+                parentDir = new int[m];
+                closed = Bits.create(m);
+                heap.ensureCapacity(m);
+            }
+        }
+        return graph;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        ContractedGraph g = graph(grid);
+        counters.reset();
+        if (source == target) return new PathResult(name(), true, 0, 0, new int[]{source});
+
+        int m = g.nodeCount();
+        Arrays.fill(dist, 0, m, Integer.MAX_VALUE);
+        Arrays.fill(closed, 0);
+        heap.clear();
+
+        int cols = grid.cols();
+        int tr = target / cols, tc = target % cols;
+
+        // Jalur langsung di dalam koridor yang sama (start & target sama-sama di koridor)
+        long best = Long.MAX_VALUE;
+        int bestAnchor = -1, directDir = -1;
+
+        // Sambungan target
+        anchorCount = 0;
+        if (g.nodeId[target] >= 0) {
+            addAnchor(g.nodeId[target], 0, -1);
+        } else {
+            for (int d = 0; d < 4; d++) {
+                if (grid.passage(target, d) < 0) continue;
+                g.walk(target, d, -1, walk);
+                if (walk.end < 0) continue;
+                // Biaya dari node ke target: sel di dalam koridor + terrain target
+                int cost = weighted ? walk.inner + grid.terrain(target) : walk.length;
+                addAnchor(g.nodeId[walk.end], cost, MazeModel.opposite(walk.lastDir));
+            }
+        }
+
+        // Benih dari start
+        if (g.nodeId[source] >= 0) {
+            int s = g.nodeId[source];
+            dist[s] = 0;
+            parent[s] = -1;
+            heap.pushOrDecrease(s, aStar ? manhattan(source, cols, tr, tc) : 0);
+            counters.push(1);
+        } else {
+            for (int d = 0; d < 4; d++) {
+                if (grid.passage(source, d) < 0) continue;
+                g.walk(source, d, target, walk);
+                if (walk.end < 0) continue;
+                int cost = weighted ? walk.inner + grid.terrain(walk.end) : walk.length;
+                if (walk.hitStop) {
+                    if (cost < best) { best = cost; directDir = d; bestAnchor = -1; }
+                    continue;
+                }
+                int s = g.nodeId[walk.end];
+                if (cost < dist[s]) {
+                    if (!heap.contains(s)) counters.push(heap.size() + 1);
+                    dist[s] = cost;
+                    parent[s] = -1;
+                    parentDir[s] = d; // arah dari start ke node benih
+                    heap.pushOrDecrease(s, cost + (aStar ? manhattan(walk.end, cols, tr, tc) : 0));
+                }
+            }
+        }
+
+        int expanded = 0;
+        while (!heap.isEmpty() && heap.peekKey() < best) {
+            int x = heap.pop();
+            counters.pops++;
+            Bits.set(closed, x);
+            expanded++;
+            int cell = g.nodeCell[x];
+            if (listener != null) listener.onExpand(cell);
+
+            for (int a = 0; a < anchorCount; a++) {
+                if (anchorNode[a] == x && (long) dist[x] + anchorCost[a] < best) {
+                    best = (long) dist[x] + anchorCost[a];
+                    bestAnchor = a;
+                }
+            }
+
+            for (int d = 0; d < 4; d++) {
+                int slot = x * 4 + d;
+                int y = g.edgeTo[slot];
+                if (y < 0 || Bits.get(closed, y)) continue;
+                // Jalan buntu hanya berguna jika di situ target tersambung
+                if (Bits.get(g.deadEnd, y) && !isAnchor(y)) continue;
+                int yCell = g.nodeCell[y];
+                int nd = dist[x] + (weighted ? g.edgeInner[slot] + grid.terrain(yCell) : g.edgeLength[slot]);
+                if (nd < dist[y]) {
+                    boolean fresh = !heap.contains(y);
+                    dist[y] = nd;
+                    parent[y] = x;
+                    parentDir[y] = d;
+                    heap.pushOrDecrease(y, nd + (aStar ? manhattan(yCell, cols, tr, tc) : 0));
+                    counters.relaxations++;
+                    if (fresh) counters.push(heap.size());
+                }
+            }
+        }
+
+        if (best == Long.MAX_VALUE) return PathResult.notFound(name(), expanded);
+        return new PathResult(name(), true, (int) best, expanded, unpack(g, source, target, bestAnchor, directDir));
+    }
+
+    private boolean isAnchor(int node) {
+        for (int a = 0; a < anchorCount; a++) if (anchorNode[a] == node) return true;
+        return false;
+    }
+
+    private void addAnchor(int node, int cost, int dir) {
+        anchorNode[anchorCount] = node;
+        anchorCost[anchorCount] = cost;
+        anchorDir[anchorCount] = dir;
+        anchorCount++;
+    }
+
+    // Urai jalur node menjadi jalur sel
+    private int[] unpack(ContractedGraph g, int source, int target, int anchor, int directDir) {
+        MazeModel grid = g.grid;
+        IntPath path = new IntPath();
+        path.add(source);
+        if (anchor < 0) {
+            path.walk(grid, g, source, directDir, target);
+            return path.toArray();
+        }
+
+        // Rantai node dari anchor mundur ke node benih
+        int[] chain = new int[16];
+        int len = 0;
+        for (int x = anchorNode[anchor]; x >= 0; x = parent[x]) {
+            if (len == chain.length) chain = Arrays.copyOf(chain, len * 2);
+            chain[len++] = x;
+        }
+
+        int seed = chain[len - 1];
+        if (g.nodeCell[seed] != source) path.walk(grid, g, source, parentDir[seed], g.nodeCell[seed]);
+        for (int i = len - 2; i >= 0; i--) {
+            int x = chain[i];
+            path.walk(grid, g, g.nodeCell[parent[x]], parentDir[x], g.nodeCell[x]);
+        }
+        if (anchorDir[anchor] >= 0) path.walk(grid, g, g.nodeCell[anchorNode[anchor]], anchorDir[anchor], target);
+        return path.toArray();
+    }
+
+    private static int manhattan(int cell, int cols, int tr, int tc) {
+        return Math.abs(cell / cols - tr) + Math.abs(cell % cols - tc);
+    }
+
+    // Penampung jalur sel yang tumbuh
+    private static final class IntPath {
+        private int[] cells = new int[64];
+        private int size;
+
+        void add(int cell) {
+            if (size == cells.length) cells = Arrays.copyOf(cells, size * 2);
+            cells[size++] = cell;
+        }
+
+        // Tambahkan sel koridor dari 'from' (sudah ada di jalur) ke arah dir sampai 'to'
+        void walk(MazeModel grid, ContractedGraph g, int from, int dir, int to) {
+            int prev = from;
+            int cur = grid.passage(from, dir);
+            add(cur);
+            while (cur != to) {
+                int next = -1;
+                for (int d = 0; d < 4; d++) {
+                    int nb = grid.passage(cur, d);
+                    if (nb >= 0 && nb != prev) { next = nb; break; }
+                }
+                prev = cur;
+                cur = next;
+                add(cur);
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(cells, size);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package core;
+
+import java.util.Arrays;
+
+// Dijkstra / A* dengan bucket queue (Dial) untuk biaya terrain integer kecil.
+// Bucket disusun melingkar sebanyak (biaya edge maks + 1), ditambah 1 untuk A*
+// karena heuristic Manhattan bisa naik 1 per langkah. Tiap bucket adalah
+// linked list ganda di array next/prev, jadi push, pop, dan decrease-key O(1).
+public final class DialSolver implements Solver {
+
+    private final boolean aStar;
+    private final boolean weighted;
+
+    private int[] dist = new int[0];
+    private int[] parent = new int[0];
+    private long[] closed = new long[0];
+
+    // Linked list per bucket; bucketOf[cell] = -1 jika sel tidak di queue
+    private int[] next = new int[0];
+    private int[] prev = new int[0];
+    private int[] bucketOf = new int[0];
+    private int[] heads = new int[0];
+    private final SearchCounters counters = new SearchCounters();
+
+    public DialSolver(boolean aStar, boolean weighted) {
+        this.aStar = aStar;
+        this.weighted = weighted;
+    }
+
+    @Override
+    public String name() {
+        return aStar ? "A* (Dial)" : "Dijkstra (Dial)";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        int n = grid.size();
+        if (dist.length < n) {
+            dist = new int[n];
+            parent = new int[n];
+            closed = Bits.create(n);
+            next = new int[n];
+            prev = new int[n];
+            bucketOf = new int[n];
+        }
+        Arrays.fill(dist, 0, n, Integer.MAX_VALUE);
+        Arrays.fill(bucketOf, 0, n, -1);
+        Arrays.fill(closed, 0);
+        counters.reset();
+
+        int maxCost = weighted ? MazeModel.MAX_TERRAIN : 1;
+        int bucketCount = maxCost + 1 + (aStar ? 1 : 0);
+        if (heads.length != bucketCount) heads = new int[bucketCount];
+        Arrays.fill(heads, -1);
+
+        int cols = grid.cols();
+        int tr = target / cols, tc = target % cols;
+
+        dist[source] = 0;
+        parent[source] = -1;
+        long cursor = aStar ? manhattan(source, cols, tr, tc) : 0;
+        insert(source, cursor, bucketCount);
+        int queued = 1;
+        counters.push(1);
+
+        int expanded = 0;
+        while (queued > 0) {
+            // Maju ke bucket tidak kosong berikutnya; paling jauh bucketCount langkah
+            int b = (int) (cursor % bucketCount);
+            while (heads[b] < 0) {
+                cursor++;
+                b = (int) (cursor % bucketCount);
+            }
+            int current = heads[b];
+            unlink(current);
+            queued--;
+            counters.pops++;
+
+            if (current == target) {
+                return new PathResult(name(), true, dist[target], expanded, PathResult.trace(parent, target));
+            }
+            Bits.set(closed, current);
+            expanded++;
+            if (listener != null) listener.onExpand(current);
+
+            int base = dist[current];
+            for (int d = 0; d < 4; d++) {
+                int nb = grid.passage(current, d);
+                if (nb < 0 || Bits.get(closed, nb)) continue;
+
+                int newDist = base + (weighted ? grid.terrain(nb) : 1);
+                if (newDist < dist[nb]) {
+                    if (bucketOf[nb] >= 0) {
+                        unlink(nb);
+                    } else {
+                        queued++;
+                        counters.push(queued);
+                        if (listener != null) listener.onDiscover(nb);
+                    }
+                    counters.relaxations++;
+                    dist[nb] = newDist;
+                    parent[nb] = current;
+                    long priority = newDist;
+                    if (aStar) priority += manhattan(nb, cols, tr, tc);
+                    insert(nb, priority, bucketCount);
+                }
+            }
+        }
+        return PathResult.notFound(name(), expanded);
+    }
+
+    private void insert(int cell, long priority, int bucketCount) {
+        int b = (int) (priority % bucketCount);
+        int head = heads[b];
+        next[cell] = head;
+        prev[cell] = -1;
+        if (head >= 0) prev[head] = cell;
+        heads[b] = cell;
+        bucketOf[cell] = b;
+    }
+
+    private void unlink(int cell) {
+        int b = bucketOf[cell];
+        int p = prev[cell], nx = next[cell];
+        if (p >= 0) next[p] = nx;
+        else heads[b] = nx;
+        if (nx >= 0) prev[nx] = p;
+        bucketOf[cell] = -1;
+    }
+
+    private static int manhattan(int cell, int cols, int tr, int tc) {
+        return Math.abs(cell / cols - tr) + Math.abs(cell % cols - tc);
+    }
+}
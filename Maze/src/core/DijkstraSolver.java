@@ -0,0 +1,94 @@
+package core;
+
+import java.util.Arrays;
+
+// Dijkstra / A* dengan array int untuk dist & parent dan IndexedMinHeap (decrease-key).
+// Tidak ada entri basi di heap, dan array dipakai ulang antar solve,
+// jadi setelah warm-up tidak ada alokasi per ekspansi.
+public final class DijkstraSolver implements Solver {
+
+    private final boolean aStar;
+    private final boolean weighted;
+
+    private int[] dist = new int[0];
+    private int[] parent = new int[0];
+    private long[] closed = new long[0];
+    private final IndexedMinHeap heap = new IndexedMinHeap(0);
+    private final SearchCounters counters = new SearchCounters();
+
+    // weighted = biaya masuk sel diambil dari terrain, selain itu semua biaya 1
+    public DijkstraSolver(boolean aStar, boolean weighted) {
+        this.aStar = aStar;
+        this.weighted = weighted;
+    }
+
+    @Override
+    public String name() {
+        return aStar ? "A* (A-Star)" : "Dijkstra";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        int n = grid.size();
+        if (dist.length < n) {
+            dist = new int[n];
+            parent = new int[n];
+            closed = Bits.create(n);
+            heap.ensureCapacity(n);
+        }
+        Arrays.fill(dist, 0, n, Integer.MAX_VALUE);
+        Arrays.fill(closed, 0);
+        heap.clear();
+        counters.reset();
+
+        int cols = grid.cols();
+        int tr = target / cols, tc = target % cols;
+
+        dist[source] = 0;
+        parent[source] = -1;
+        heap.pushOrDecrease(source, aStar ? manhattan(source, cols, tr, tc) : 0);
+        counters.push(1);
+
+        int expanded = 0;
+        while (!heap.isEmpty()) {
+            int current = heap.pop();
+            counters.pops++;
+            if (current == target) {
+                return new PathResult(name(), true, dist[target], expanded, PathResult.trace(parent, target));
+            }
+            Bits.set(closed, current);
+            expanded++;
+            if (listener != null) listener.onExpand(current);
+
+            int base = dist[current];
+            for (int d = 0; d < 4; d++) {
+                int next = grid.passage(current, d);
+                if (next < 0 || Bits.get(closed, next)) continue;
+
+                int newDist = base + (weighted ? grid.terrain(next) : 1);
+                if (newDist < dist[next]) {
+                    dist[next] = newDist;
+                    parent[next] = current;
+                    long priority = newDist;
+                    if (aStar) priority += manhattan(next, cols, tr, tc);
+                    boolean fresh = !heap.contains(next);
+                    if (listener != null && fresh) listener.onDiscover(next);
+                    heap.pushOrDecrease(next, priority);
+                    counters.relaxations++;
+                    if (fresh) counters.push(heap.size());
+                }
+            }
+        }
+        return PathResult.notFound(name(), expanded);
+    }
+
+    // Manhattan distance; admissible karena biaya terrain minimal 1
+    private static int manhattan(int cell, int cols, int tr, int tc) {
+        return Math.abs(cell / cols - tr) + Math.abs(cell % cols - tc);
+    }
+}
@@ -0,0 +1,198 @@
+package core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Algoritma Eller: maze sempurna dibangun baris per baris.
+// Yang disimpan hanya satu baris set-ID (union-find per kolom) + byte sel baris aktif,
+// jadi memori O(lebar) dan tinggi maze bebas. Baris yang sudah final langsung dikirim
+// ke sink: MazeModel, atau channel dalam format MazeFile (bisa jauh lebih besar dari RAM,
+// tapi tetap <= MAX_CELLS sel supaya bisa dibuka lagi oleh MazeFile.open/load).
+public final class EllerGenerator implements MazeGenerator {
+
+    private static final byte CLOSED = (byte) (MazeModel.ALL_WALLS | MazeModel.DEFAULT_TERRAIN << 4);
+    private static final int WRITE_BUFFER = 1 << 20;
+
+    // Penerima satu baris final (byte sel format MazeModel, panjang = cols)
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(int row, byte[] cells) throws IOException;
+    }
+
+    private final long seed;
+
+    public EllerGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    @Override
+    public String name() {
+        return "Eller (streaming)";
+    }
+
+    @Override
+    public GenerationStats generate(MazeModel grid) {
+        long t0 = System.nanoTime();
+        grid.reset();
+        int cols = grid.cols();
+        try {
+            run(grid.rows(), cols, (r, cells) -> {
+                int base = r * cols;
+                for (int c = 0; c < cols; c++) {
+                    if ((cells[c] & 1 << MazeModel.RIGHT) == 0) grid.removeWall(base + c, MazeModel.RIGHT);
+                    if ((cells[c] & 1 << MazeModel.BOTTOM) == 0) grid.removeWall(base + c, MazeModel.BOTTOM);
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // sink MazeModel tidak pernah melempar IOException
+        }
+        grid.openEntranceAndExit();
+        return new GenerationStats(name(), seed, grid.size(), System.nanoTime() - t0);
+    }
+
+    // Tulis maze rows x cols langsung ke channel dalam format MazeFile (header + sel).
+    // Ukuran dicek sebelum menulis apa pun: file yang tidak bisa dibuka MazeFile ditolak di depan.
+    public GenerationStats write(int rows, int cols, WritableByteChannel out) throws IOException {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+        if ((long) rows * cols > MazeModel.MAX_CELLS) {
+            throw new IllegalArgumentException("Maze too large: " + rows + "x" + cols + " = " + (long) rows * cols
+                    + " cells, MazeFile limit is " + MazeModel.MAX_CELLS);
+        }
+        long t0 = System.nanoTime();
+        writeFully(out, MazeFile.header(rows, cols));
+
+        ByteBuffer buf = ByteBuffer.allocate(Math.max(cols, WRITE_BUFFER / cols * cols));
+        run(rows, cols, (r, cells) -> {
+            if (r == 0) cells[0] &= (byte) ~(1 << MazeModel.LEFT);
+            if (r == rows - 1) cells[cols - 1] &= (byte) ~(1 << MazeModel.RIGHT);
+            if (buf.remaining() < cols) {
+                buf.flip();
+                writeFully(out, buf);
+                buf.clear();
+            }
+            buf.put(cells);
+        });
+        buf.flip();
+        writeFully(out, buf);
+        return new GenerationStats(name(), seed, (long) rows * cols, System.nanoTime() - t0);
+    }
+
+    public GenerationStats write(int rows, int cols, Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            return write(rows, cols, ch);
+        }
+    }
+
+    // Bit acak diambil 64 sekaligus dari satu nextLong()
+    private static final class RandomBits {
+        private final SplittableRandom rand;
+        private long bits;
+        private int left;
+
+        RandomBits(long seed) {
+            rand = new SplittableRandom(seed);
+        }
+
+        boolean next() {
+            if (left == 0) {
+                bits = rand.nextLong();
+                left = 64;
+            }
+            left--;
+            boolean b = (bits & 1) != 0;
+            bits >>>= 1;
+            return b;
+        }
+    }
+
+    private void run(int rows, int cols, RowSink sink) throws IOException {
+        RandomBits rand = new RandomBits(seed);
+        byte[] cells = new byte[cols];
+        int[] parent = new int[cols];   // union-find per kolom, baris aktif
+        int[] carry = new int[cols];    // root baris sebelumnya yang turun ke kolom ini, -1 = set baru
+        int[] rep = new int[cols];      // root lama -> kolom pertama di baris baru
+        int[] stamp = new int[cols];    // penanda validitas rep/last/down per baris
+        int[] last = new int[cols];     // root -> kolom terakhir anggota set
+        boolean[] down = new boolean[cols];
+        Arrays.fill(carry, -1);
+
+        for (int r = 0; r < rows; r++) {
+            boolean lastRow = r == rows - 1;
+            int mark = 2 * r + 1;
+
+            // 1. Set dari baris atas diteruskan, sel lain jadi set baru
+            for (int c = 0; c < cols; c++) {
+                cells[c] = carry[c] >= 0 ? (byte) (CLOSED & ~(1 << MazeModel.TOP)) : CLOSED;
+                int old = carry[c];
+                if (old < 0) {
+                    parent[c] = c;
+                } else if (stamp[old] != mark) {
+                    stamp[old] = mark;
+                    rep[old] = c;
+                    parent[c] = c;
+                } else {
+                    parent[c] = rep[old];
+                }
+            }
+
+            // 2. Gabung tetangga horizontal yang beda set (baris terakhir: selalu)
+            for (int c = 0; c + 1 < cols; c++) {
+                int a = find(parent, c), b = find(parent, c + 1);
+                if (a != b && (lastRow || rand.next())) {
+                    parent[b] = a;
+                    cells[c] &= (byte) ~(1 << MazeModel.RIGHT);
+                    cells[c + 1] &= (byte) ~(1 << MazeModel.LEFT);
+                }
+            }
+
+            // 3. Tiap set turun minimal sekali ke baris berikutnya
+            if (!lastRow) {
+                int markDown = mark + 1;
+                for (int c = 0; c < cols; c++) {
+                    int root = find(parent, c);
+                    parent[c] = root;
+                    last[root] = c;
+                }
+                for (int c = 0; c < cols; c++) {
+                    int root = parent[c];
+                    if (stamp[root] != markDown) {
+                        stamp[root] = markDown;
+                        down[root] = false;
+                    }
+                    boolean go = rand.next() || (c == last[root] && !down[root]);
+                    if (go) {
+                        down[root] = true;
+                        cells[c] &= (byte) ~(1 << MazeModel.BOTTOM);
+                        carry[c] = root;
+                    } else {
+                        carry[c] = -1;
+                    }
+                }
+            }
+            sink.accept(r, cells);
+        }
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) out.write(buf);
+    }
+}
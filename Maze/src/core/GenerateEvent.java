@@ -0,0 +1,30 @@
+package core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Event JFR per generate ("maze.Generate"); durasi = wall time generate
+@Name("maze.Generate")
+@Label("Maze Generate")
+@Category({"Maze", "Generator"})
+@Description("One generator run")
+@StackTrace(false)
+final class GenerateEvent extends jdk.jfr.Event {
+
+    @Label("Generator")
+    String generator;
+
+    @Label("Seed")
+    long seed;
+
+    @Label("Cells")
+    long cells;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,15 @@
+package core;
+
+// GenerationStats ditambah byte yang dialokasikan thread pemanggil selama generate (-1 jika tidak didukung).
+// Generator paralel mengalokasikan juga di worker ForkJoinPool; itu tidak ikut terhitung.
+public record GenerationMetrics(GenerationStats stats, long allocatedBytes) {
+
+    public double millis() {
+        return stats.millis();
+    }
+
+    @Override
+    public String toString() {
+        return stats + " alloc=" + allocatedBytes;
+    }
+}
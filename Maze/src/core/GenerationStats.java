@@ -0,0 +1,19 @@
+package core;
+
+// Hasil satu kali generate: jumlah sel dan waktu (nanodetik)
+public record GenerationStats(String generator, long seed, long cells, long nanos) {
+
+    public double millis() {
+        return nanos / 1_000_000.0;
+    }
+
+    public double cellsPerSecond() {
+        return nanos == 0 ? 0 : cells * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s seed=%d cells=%d time=%.2fms throughput=%,.0f cells/s",
+                generator, seed, cells, millis(), cellsPerSecond());
+    }
+}
@@ -0,0 +1,250 @@
+package core;
+
+import java.util.Arrays;
+
+// HPA* (Hierarchical Pathfinding A*) di atas ClusterGraph.
+// Start & target disambungkan ke node cluster masing-masing lewat Dijkstra lokal,
+// A* berjalan di graf abstrak (node transisi + biaya intra-cluster), lalu hanya cluster
+// di rute terpilih yang di-refine jadi jalur sel. Transisi dibatasi per run, jadi jalur
+// bisa sedikit lebih mahal dari optimal: namanya ditandai "approx.".
+// Graf di-cache per grid; cluster yang dilaporkan lewat cellChanged() dibangun ulang sendiri-sendiri.
+public final class HpaSolver implements Solver {
+
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private static final int INF = ClusterGraph.INF;
+
+    private final boolean weighted;
+    private final int clusterSize;
+
+    private ClusterGraph graph;
+    private ClusterGraph.LocalSearch local;
+    // Versi grid yang sudah tercakup graph + dirty; dirtyAll = ada perubahan yang tidak dilaporkan
+    private int syncedVersion;
+    private int[] dirty = new int[16];
+    private int dirtySize;
+    private boolean dirtyAll;
+
+    // State A* abstrak per sel, di-reset lazily lewat stamp (bukan fill O(n) per query)
+    private int[] dist = new int[0];
+    private int[] parent = new int[0];
+    private int[] stamp = new int[0];
+    private int epoch;
+    private final IndexedMinHeap heap = new IndexedMinHeap(0);
+    private int[] fromSource = new int[0];
+    private int[] toTarget = new int[0];
+    private final ClusterGraph.IntList route = new ClusterGraph.IntList();
+    private final SearchCounters counters = new SearchCounters();
+
+    public HpaSolver(boolean weighted) {
+        this(weighted, DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HpaSolver(boolean weighted, int clusterSize) {
+        this.weighted = weighted;
+        this.clusterSize = clusterSize;
+    }
+
+    @Override
+    public String name() {
+        return "HPA* (approx.)";
+    }
+
+    // Gabungan graf abstrak + pencarian lokal (sambungan start/target dan refine)
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    // Laporkan sel yang berubah; cluster-nya dibangun ulang saat solve berikutnya.
+    // Hanya sah kalau versi naik paling banyak satu sejak laporan terakhir (satu edit = satu mutasi);
+    // selisih lebih besar berarti ada perubahan lain (mis. generate ulang) -> rebuild penuh.
+    public void cellChanged(MazeModel grid, int cell) {
+        if (graph == null || graph.grid != grid || dirtyAll) return;
+        int version = grid.version();
+        if (version != syncedVersion && version != syncedVersion + 1) {
+            dirtyAll = true;
+            dirtySize = 0;
+            return;
+        }
+        if (dirtySize == dirty.length) dirty = Arrays.copyOf(dirty, dirtySize * 2);
+        dirty[dirtySize++] = graph.clusterOf(cell);
+        syncedVersion = version;
+    }
+
+    // Buang graf (grid di-generate/dimuat ulang); dibangun lagi saat solve berikutnya
+    public void invalidate() {
+        graph = null;
+        dirtySize = 0;
+    }
+
+    public ClusterGraph graph(MazeModel grid) {
+        if (graph == null || graph.grid != grid) {
+            rebuild(grid);
+        } else if (graph.isStale()) {
+            if (!dirtyAll && syncedVersion == grid.version()) {
+                for (int i = 0; i < dirtySize; i++) graph.rebuildCluster(dirty[i]);
+                graph.version = grid.version();
+            } else {
+                rebuild(grid);
+            }
+        }
+        dirtySize = 0;
+        return graph;
+    }
+
+    private void rebuild(MazeModel grid) {
+        graph = ClusterGraph.build(grid, clusterSize, weighted);
+        local = new ClusterGraph.LocalSearch(graph);
+        syncedVersion = grid.version();
+        dirtyAll = false;
+        int n = grid.size();
+        if (dist.length < n) {
+            dist = new int[n];
+            parent = new int[n];
+            stamp = new int[n];
+            heap.ensureCapacity(n);
+            epoch = 0;
+        }
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        ClusterGraph g = graph(grid);
+        counters.reset();
+        local.counters.reset();
+        if (source == target) return new PathResult(name(), true, 0, 0, new int[]{source});
+        local.expanded = 0;
+        if (++epoch == 0) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        heap.clear();
+
+        int cs = g.clusterOf(source), ct = g.clusterOf(target);
+        int[] sourceNodes = g.nodes[cs], targetNodes = g.nodes[ct];
+
+        // Kandidat jalur langsung di dalam satu cluster
+        long best = INF;
+        int bestLast = -1;
+        if (cs == ct) {
+            local.run(cs, source, target, false);
+            if (local.dist(target) < INF) best = local.dist(target);
+        }
+
+        // Sambungkan start ke node cluster asal, dan node cluster tujuan ke target
+        local.run(cs, source, -1, false);
+        if (fromSource.length < sourceNodes.length) fromSource = new int[sourceNodes.length];
+        for (int i = 0; i < sourceNodes.length; i++) fromSource[i] = local.dist(sourceNodes[i]);
+        local.run(ct, target, -1, true);
+        if (toTarget.length < targetNodes.length) toTarget = new int[targetNodes.length];
+        for (int i = 0; i < targetNodes.length; i++) toTarget[i] = local.dist(targetNodes[i]);
+
+        int cols = grid.cols();
+        int tr = target / cols, tc = target % cols;
+        for (int i = 0; i < sourceNodes.length; i++) {
+            if (fromSource[i] < INF) relax(sourceNodes[i], fromSource[i], -1, tr, tc, cols);
+        }
+
+        // A* abstrak; tujuan virtual dicapai lewat toTarget dari node cluster target
+        int expanded = 0;
+        while (!heap.isEmpty() && heap.peekKey() < best) {
+            int u = heap.pop();
+            counters.pops++;
+            expanded++;
+            if (listener != null) listener.onExpand(u);
+            int cu = g.clusterOf(u);
+            int du = dist[u];
+
+            if (cu == ct) {
+                int j = g.nodeIndex(ct, u);
+                if (toTarget[j] < INF && (long) du + toTarget[j] < best) {
+                    best = (long) du + toTarget[j];
+                    bestLast = u;
+                }
+            }
+
+            int[] clusterNodes = g.nodes[cu];
+            int k = clusterNodes.length;
+            int row = g.nodeIndex(cu, u) * k;
+            int[] costs = g.intra[cu];
+            for (int j = 0; j < k; j++) {
+                if (costs[row + j] < INF) relax(clusterNodes[j], du + costs[row + j], u, tr, tc, cols);
+            }
+            int bits = g.portal[u];
+            for (int d = 0; d < 4; d++) {
+                if ((bits >> d & 1) == 0) continue;
+                int v = grid.neighbor(u, d);
+                relax(v, du + g.cost(v), u, tr, tc, cols);
+            }
+        }
+        int searched = expanded + local.expanded;
+        if (best == INF) {
+            mergeLocalCounters();
+            return PathResult.notFound(name(), searched);
+        }
+
+        int[] path = refine(g, source, target, bestLast);
+        mergeLocalCounters();
+        return new PathResult(name(), true, (int) best, searched, path);
+    }
+
+    private void relax(int v, int nd, int from, int tr, int tc, int cols) {
+        if (stamp[v] != epoch) {
+            stamp[v] = epoch;
+            dist[v] = INF;
+        }
+        if (nd < dist[v]) {
+            boolean fresh = !heap.contains(v);
+            dist[v] = nd;
+            parent[v] = from;
+            heap.pushOrDecrease(v, (long) nd + Math.abs(v / cols - tr) + Math.abs(v % cols - tc));
+            counters.relaxations++;
+            if (fresh) counters.push(heap.size());
+        }
+    }
+
+    private void mergeLocalCounters() {
+        SearchCounters lc = local.counters;
+        counters.relaxations += lc.relaxations;
+        counters.pushes += lc.pushes;
+        counters.pops += lc.pops;
+        counters.peakFrontier = Math.max(counters.peakFrontier, lc.peakFrontier);
+    }
+
+    // Ubah rute abstrak (start, node..., target) jadi jalur sel; hanya cluster di rute yang dicari ulang
+    private int[] refine(ClusterGraph g, int source, int target, int last) {
+        route.clear();
+        if (last < 0) {
+            // Jalur langsung di dalam satu cluster
+            route.add(source);
+            local.run(g.clusterOf(source), source, target, false);
+            local.appendPath(target, route);
+            return route.toArray();
+        }
+
+        ClusterGraph.IntList chain = new ClusterGraph.IntList();
+        for (int u = last; u >= 0; u = parent[u]) chain.add(u);
+        chain.reverse(0);
+        int[] nodes = chain.toArray();
+
+        route.add(source);
+        int prev = source;
+        for (int node : nodes) {
+            if (prev != node) appendSegment(g, prev, node);
+            prev = node;
+        }
+        if (prev != target) appendSegment(g, prev, target);
+        return route.toArray();
+    }
+
+    private void appendSegment(ClusterGraph g, int from, int to) {
+        int c = g.clusterOf(from);
+        if (c != g.clusterOf(to)) {
+            route.add(to); // edge transisi antar cluster: sel bersebelahan
+            return;
+        }
+        local.run(c, from, to, false);
+        local.appendPath(to, route);
+    }
+}
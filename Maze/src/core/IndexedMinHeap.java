@@ -0,0 +1,127 @@
+package core;
+
+import java.util.Arrays;
+
+// Binary min-heap primitif dengan decrease-key.
+// Id = indeks sel, pos[id] menyimpan slot di heap (-1 jika tidak ada),
+// key disimpan paralel dengan slot supaya sift tetap cache-friendly.
+final class IndexedMinHeap {
+
+    private int[] heap;
+    private long[] keys;
+    private int[] pos;
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        heap = new int[Math.max(1, capacity)];
+        keys = new long[heap.length];
+        pos = new int[heap.length];
+        Arrays.fill(pos, -1);
+    }
+
+    // Pastikan id 0..capacity-1 bisa dipakai (dipanggil sebelum solve, bukan per ekspansi)
+    void ensureCapacity(int capacity) {
+        if (capacity <= pos.length) return;
+        int old = pos.length;
+        heap = Arrays.copyOf(heap, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        pos = Arrays.copyOf(pos, capacity);
+        Arrays.fill(pos, old, capacity, -1);
+    }
+
+    boolean isEmpty() { return size == 0; }
+    int size() { return size; }
+
+    boolean contains(int id) { return pos[id] >= 0; }
+
+    long key(int id) { return keys[pos[id]]; }
+
+    int peek() { return heap[0]; }
+    long peekKey() { return keys[0]; }
+
+    // Tambah id baru, atau turunkan key jika id sudah ada dan key baru lebih kecil
+    boolean pushOrDecrease(int id, long key) {
+        int slot = pos[id];
+        if (slot < 0) {
+            slot = size++;
+            heap[slot] = id;
+            keys[slot] = key;
+            pos[id] = slot;
+            siftUp(slot);
+            return true;
+        }
+        if (key < keys[slot]) {
+            keys[slot] = key;
+            siftUp(slot);
+            return true;
+        }
+        return false;
+    }
+
+    int pop() {
+        int top = heap[0];
+        pos[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            keys[0] = keys[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    // Keluarkan id dari heap (jika ada); dipakai solver incremental saat key berubah naik
+    void remove(int id) {
+        int slot = pos[id];
+        if (slot < 0) return;
+        pos[id] = -1;
+        if (--size == slot) return;
+        int moved = heap[size];
+        heap[slot] = moved;
+        keys[slot] = keys[size];
+        pos[moved] = slot;
+        siftDown(slot);
+        if (pos[moved] == slot) siftUp(slot);
+    }
+
+    // Kosongkan heap; hanya entri yang tersisa yang di-reset
+    void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    private void siftUp(int slot) {
+        int id = heap[slot];
+        long key = keys[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (keys[parent] <= key) break;
+            heap[slot] = heap[parent];
+            keys[slot] = keys[parent];
+            pos[heap[slot]] = slot;
+            slot = parent;
+        }
+        heap[slot] = id;
+        keys[slot] = key;
+        pos[id] = slot;
+    }
+
+    private void siftDown(int slot) {
+        int id = heap[slot];
+        long key = keys[slot];
+        int half = size >>> 1;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            int right = child + 1;
+            if (right < size && keys[right] < keys[child]) child = right;
+            if (key <= keys[child]) break;
+            heap[slot] = heap[child];
+            keys[slot] = keys[child];
+            pos[heap[slot]] = slot;
+            slot = child;
+        }
+        heap[slot] = id;
+        keys[slot] = key;
+        pos[id] = slot;
+    }
+}
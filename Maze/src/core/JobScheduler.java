@@ -0,0 +1,152 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+// Penjadwal job tunggal: semua job generate/solve/IO berjalan berurutan di satu thread worker,
+// jadi dua job tidak pernah menyentuh grid bersamaan. Sengaja platform thread (daemon), bukan virtual:
+// ThreadMXBean tidak mengukur alokasi virtual thread, padahal Metrics mencatat byte alokasi per solve. Aturan saat job baru masuk:
+//   - job antre sejenis (GENERATE atau SOLVE) yang belum mulai dibuang (tombol ditekan berulang = satu job);
+//   - SOLVE baru menginterupsi SOLVE yang sedang berjalan;
+//   - GENERATE baru membuang/menginterupsi SOLVE (untuk maze lama), tapi GENERATE yang sedang
+//     berjalan dibiarkan selesai lalu yang baru menyusul;
+//   - IO (save) tidak pernah dibuang, selalu menunggu giliran.
+// Pembatalan bersifat kooperatif: langkah job memeriksa interrupt (checkCancelled, listener cancellable).
+public final class JobScheduler implements AutoCloseable {
+
+    public enum Kind { GENERATE, SOLVE, IO }
+
+    // Satu langkah job; langkah berikutnya hanya jalan kalau langkah sebelumnya selesai tanpa batal
+    @FunctionalInterface
+    public interface Step {
+        void run() throws Exception;
+    }
+
+    public final class Job {
+        private final Kind kind;
+        private final String name;
+        private final Step[] steps;
+        // Dibuat di konstruktor (bukan hasil executor.submit), jadi sudah ada sebelum Job terlihat siapa pun
+        private final FutureTask<Void> future = new FutureTask<>(this::run, null);
+        private volatile boolean cancelled;
+
+        private Job(Kind kind, String name, Step[] steps) {
+            this.kind = kind;
+            this.name = name;
+            this.steps = steps;
+        }
+
+        public Kind kind() { return kind; }
+        public String name() { return name; }
+        public boolean isCancelled() { return cancelled; }
+
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            future.cancel(true);
+        }
+
+        private void run() {
+            synchronized (JobScheduler.this) {
+                pending.remove(this);
+                if (cancelled) return;
+                running = this;
+            }
+            try {
+                for (Step step : steps) {
+                    checkCancelled();
+                    step.run();
+                }
+            } catch (CancellationException | InterruptedException e) {
+                // Dibatalkan job yang lebih baru
+            } catch (Throwable t) {
+                if (!cancelled) errorHandler.accept(t);
+            } finally {
+                synchronized (JobScheduler.this) {
+                    running = null;
+                }
+                // Bersihkan interrupt yang datang terlambat supaya tidak bocor ke job berikutnya
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("maze-job-", 0).daemon().factory());
+    private final List<Job> pending = new ArrayList<>();
+    private Job running;
+    private volatile Consumer<Throwable> errorHandler = Throwable::printStackTrace;
+
+    public void setErrorHandler(Consumer<Throwable> handler) {
+        this.errorHandler = handler;
+    }
+
+    public synchronized Job submit(Kind kind, String name, Step... steps) {
+        for (Job job : List.copyOf(pending)) {
+            if (supersedes(kind, job.kind)) {
+                job.cancel();
+                pending.remove(job);
+            }
+        }
+        if (running != null && kind != Kind.IO && running.kind == Kind.SOLVE) running.cancel();
+
+        Job job = new Job(kind, name, steps);
+        pending.add(job);
+        executor.execute(job.future);
+        return job;
+    }
+
+    private static boolean supersedes(Kind incoming, Kind queued) {
+        return switch (incoming) {
+            case GENERATE -> queued != Kind.IO;
+            case SOLVE -> queued == Kind.SOLVE;
+            case IO -> false;
+        };
+    }
+
+    // Ada job yang berjalan atau antre
+    public synchronized boolean isBusy() {
+        return running != null || !pending.isEmpty();
+    }
+
+    public synchronized void cancelAll() {
+        for (Job job : pending) job.cancel();
+        pending.clear();
+        if (running != null) running.cancel();
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.shutdownNow();
+    }
+
+    // Dipanggil langkah job di titik aman; melempar CancellationException kalau job diinterupsi
+    public static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) throw new CancellationException();
+    }
+
+    // Bungkus listener solver supaya solve berhenti di ekspansi berikutnya saat job dibatalkan
+    public static SearchListener cancellable(SearchListener listener) {
+        return new SearchListener() {
+            @Override
+            public void onExpand(int cell) {
+                checkCancelled();
+                if (listener != null) listener.onExpand(cell);
+            }
+
+            @Override
+            public void onDiscover(int cell) {
+                if (listener != null) listener.onDiscover(cell);
+            }
+        };
+    }
+}
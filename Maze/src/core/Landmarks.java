@@ -0,0 +1,136 @@
+package core;
+
+import java.util.Arrays;
+
+// Tabel jarak landmark untuk heuristik ALT (A*, Landmarks, Triangle inequality).
+// Biaya terrain bergantung arah (biaya masuk sel), jadi disimpan dua tabel per landmark:
+//   from[v * k + l] = jarak L -> v (Dijkstra maju), to[v * k + l] = jarak v -> L (Dijkstra mundur)
+// Layout per sel (k int berurutan) supaya evaluasi heuristik cukup satu cache line.
+// Landmark dipilih farthest-point: tiap landmark baru = sel terjauh dari landmark yang sudah ada.
+public final class Landmarks {
+
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    final MazeModel grid;
+    final int version;
+    final boolean weighted;
+    final int count;
+    final int[] cells;
+    final int[] from;
+    final int[] to;
+    final long buildNanos;
+
+    private Landmarks(MazeModel grid, boolean weighted, int count) {
+        this.grid = grid;
+        this.version = grid.version();
+        this.weighted = weighted;
+        this.count = count;
+        this.cells = new int[count];
+        this.from = new int[grid.size() * count];
+        this.to = new int[grid.size() * count];
+        long t0 = System.nanoTime();
+        build();
+        this.buildNanos = System.nanoTime() - t0;
+    }
+
+    public static Landmarks build(MazeModel grid, int count, boolean weighted) {
+        if (count < 1) throw new IllegalArgumentException("Invalid landmark count: " + count);
+        if ((long) grid.size() * count > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Landmark table too large: " + grid.size() + " cells x " + count);
+        }
+        return new Landmarks(grid, weighted, count);
+    }
+
+    // true jika maze sudah berubah sejak tabel dibangun
+    public boolean isStale() {
+        return grid.version() != version;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int landmark(int l) {
+        return cells[l];
+    }
+
+    public double buildMillis() {
+        return buildNanos / 1_000_000.0;
+    }
+
+    // Batas bawah jarak v -> t dari semua landmark (triangle inequality)
+    public int lowerBound(int v, int t) {
+        int best = 0;
+        int vb = v * count, tb = t * count;
+        for (int l = 0; l < count; l++) {
+            int fv = from[vb + l], ft = from[tb + l];
+            if (fv != UNREACHABLE && ft != UNREACHABLE && ft - fv > best) best = ft - fv;
+            int tv = to[vb + l], tt = to[tb + l];
+            if (tv != UNREACHABLE && tt != UNREACHABLE && tv - tt > best) best = tv - tt;
+        }
+        return best;
+    }
+
+    private void build() {
+        int n = grid.size();
+        int[] dist = new int[n];
+        int[] nearest = new int[n];   // jarak ke landmark terdekat, untuk pemilihan farthest-point
+        IndexedMinHeap heap = new IndexedMinHeap(n);
+
+        // Landmark pertama: sel terjauh dari sel 0 (biasanya di tepi/pojok maze)
+        dijkstra(0, false, dist, heap);
+        int next = farthest(dist);
+        Arrays.fill(nearest, UNREACHABLE);
+
+        for (int l = 0; l < count; l++) {
+            cells[l] = next;
+            dijkstra(next, false, dist, heap);
+            for (int v = 0; v < n; v++) {
+                from[v * count + l] = dist[v];
+                if (dist[v] < nearest[v]) nearest[v] = dist[v];
+            }
+            dijkstra(next, true, dist, heap);
+            for (int v = 0; v < n; v++) to[v * count + l] = dist[v];
+            next = farthest(nearest);
+        }
+    }
+
+    // Sel dengan jarak terbesar yang masih terjangkau (landmark terpilih berjarak 0)
+    private static int farthest(int[] dist) {
+        int best = 0;
+        long bestDist = -1;
+        for (int v = 0; v < dist.length; v++) {
+            if (dist[v] != UNREACHABLE && dist[v] > bestDist) {
+                best = v;
+                bestDist = dist[v];
+            }
+        }
+        return best;
+    }
+
+    // reverse = jarak v -> source: relaksasi mundur membayar biaya masuk sel asal (terrain(u))
+    private void dijkstra(int source, boolean reverse, int[] dist, IndexedMinHeap heap) {
+        Arrays.fill(dist, UNREACHABLE);
+        heap.clear();
+        dist[source] = 0;
+        heap.pushOrDecrease(source, 0);
+        while (!heap.isEmpty()) {
+            int u = heap.pop();
+            int base = dist[u];
+            int step = reverse ? cost(u) : 0;
+            for (int d = 0; d < 4; d++) {
+                int v = grid.passage(u, d);
+                if (v < 0) continue;
+                int nd = base + (reverse ? step : cost(v));
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    heap.pushOrDecrease(v, nd);
+                }
+            }
+        }
+    }
+
+    private int cost(int cell) {
+        return weighted ? grid.terrain(cell) : 1;
+    }
+}
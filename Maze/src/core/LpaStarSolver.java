@@ -0,0 +1,203 @@
+package core;
+
+import java.util.Arrays;
+
+// LPA* (Lifelong Planning A*): solver incremental yang menyimpan g/rhs antar query.
+// Setelah dinding dibuka/ditutup atau terrain diubah, caller melaporkan sel yang berubah
+// lewat cellChanged(); solve() berikutnya hanya memperbaiki sel yang nilainya tidak konsisten,
+// jadi biaya re-solve sebanding dengan area terdampak, bukan ukuran grid. Jalur tetap optimal.
+// Grid, source, target atau mode bobot yang berbeda (atau edit yang tidak dilaporkan) = hitung ulang penuh.
+public final class LpaStarSolver implements Solver {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final boolean weighted;
+
+    private MazeModel grid;
+    private int source = -1, target = -1;
+    private int syncedVersion;
+    // Ada perubahan grid yang tidak dilaporkan (mis. regenerate): solve berikutnya hitung ulang penuh
+    private boolean stale;
+
+    private int[] g = new int[0];
+    private int[] rhs = new int[0];
+    private final IndexedMinHeap open = new IndexedMinHeap(0);
+    private final SearchCounters counters = new SearchCounters();
+
+    // Sel yang dilaporkan berubah sejak solve terakhir
+    private int[] pending = new int[16];
+    private int pendingSize;
+
+    public LpaStarSolver(boolean weighted) {
+        this.weighted = weighted;
+    }
+
+    @Override
+    public String name() {
+        return "LPA*";
+    }
+
+    // Counter hanya untuk query terakhir (perbaikan incremental), bukan sejak initialize
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    // Laporkan sel yang dinding atau terrain-nya baru diubah (untuk dinding: kedua sel).
+    // Hanya sah kalau edit ini satu-satunya perubahan sejak sinkron terakhir (version naik tepat 1,
+    // atau 0 untuk sel kedua dari edit yang sama); selain itu ada perubahan lain yang tidak terlihat.
+    public void cellChanged(MazeModel grid, int cell) {
+        if (grid != this.grid || stale) return;
+        int version = grid.version();
+        if (version != syncedVersion && version != syncedVersion + 1) {
+            stale = true;
+            pendingSize = 0;
+            return;
+        }
+        if (pendingSize == pending.length) pending = Arrays.copyOf(pending, pendingSize * 2);
+        pending[pendingSize++] = cell;
+        syncedVersion = version;
+    }
+
+    // Buang state; solve berikutnya dihitung dari nol
+    public void invalidate() {
+        grid = null;
+    }
+
+    // expanded = sel yang di-pop di query ini saja (kecil setelah edit lokal)
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        counters.reset();
+        if (grid != this.grid || source != this.source || target != this.target
+                || stale || grid.version() != syncedVersion) {
+            initialize(grid, source, target);
+        } else {
+            for (int i = 0; i < pendingSize; i++) updateCell(pending[i]);
+        }
+        pendingSize = 0;
+
+        int expanded;
+        try {
+            expanded = computeShortestPath(listener);
+        } catch (RuntimeException e) {
+            // Dibatalkan di tengah ekspansi (listener melempar): state g/rhs tidak dijamin konsisten
+            invalidate();
+            throw e;
+        }
+        int[] path = g[target] == INF ? null : tracePath();
+        if (path == null) return PathResult.notFound(name(), expanded);
+        return new PathResult(name(), true, g[target], expanded, path);
+    }
+
+    private void initialize(MazeModel grid, int source, int target) {
+        int n = grid.size();
+        this.grid = grid;
+        this.source = source;
+        this.target = target;
+        this.syncedVersion = grid.version();
+        this.stale = false;
+        if (g.length < n) {
+            g = new int[n];
+            rhs = new int[n];
+        }
+        Arrays.fill(g, 0, n, INF);
+        Arrays.fill(rhs, 0, n, INF);
+        open.ensureCapacity(n);
+        open.clear();
+        rhs[source] = 0;
+        open.pushOrDecrease(source, key(source));
+        counters.push(1);
+    }
+
+    private int computeShortestPath(SearchListener listener) {
+        int expanded = 0;
+        while (!open.isEmpty() && (open.peekKey() < key(target) || rhs[target] != g[target])) {
+            int u = open.pop();
+            counters.pops++;
+            expanded++;
+            if (listener != null && u != target) listener.onExpand(u);
+
+            if (g[u] > rhs[u]) {
+                // Overconsistent: nilai turun, tetapkan lalu teruskan ke tetangga
+                g[u] = rhs[u];
+                for (int d = 0; d < 4; d++) {
+                    int v = grid.passage(u, d);
+                    if (v >= 0) updateCell(v);
+                }
+            } else {
+                // Underconsistent: nilai naik, lepas u lalu hitung ulang u & tetangganya
+                g[u] = INF;
+                updateCell(u);
+                for (int d = 0; d < 4; d++) {
+                    int v = grid.passage(u, d);
+                    if (v >= 0) updateCell(v);
+                }
+            }
+        }
+        return expanded;
+    }
+
+    // rhs(u) = min g(pred) + biaya masuk u; masuk heap hanya jika tidak konsisten
+    private void updateCell(int u) {
+        if (u != source) {
+            int best = INF;
+            for (int d = 0; d < 4; d++) {
+                int v = grid.passage(u, d);
+                if (v >= 0 && g[v] < best) best = g[v];
+            }
+            rhs[u] = best == INF ? INF : best + cost(u);
+            counters.relaxations++;
+        }
+        boolean queued = open.contains(u);
+        open.remove(u);
+        if (g[u] != rhs[u]) {
+            open.pushOrDecrease(u, key(u));
+            if (!queued) counters.push(open.size());
+        }
+    }
+
+    // Key leksikografis [min(g,rhs) + h ; min(g,rhs)] dikemas ke satu long
+    private long key(int u) {
+        int m = Math.min(g[u], rhs[u]);
+        if (m == INF) return Long.MAX_VALUE;
+        return (long) (m + heuristic(u)) << 32 | m;
+    }
+
+    private int heuristic(int u) {
+        int cols = grid.cols();
+        return Math.abs(u / cols - target / cols) + Math.abs(u % cols - target % cols);
+    }
+
+    private int cost(int u) {
+        return weighted ? grid.terrain(u) : 1;
+    }
+
+    // Mundur dari target lewat tetangga dengan g(v) + cost(u) == g(u).
+    // null kalau rantai putus (state tidak konsisten dengan grid): solve melapor tidak ketemu
+    private int[] tracePath() {
+        int length = 1;
+        int[] reversed = new int[16];
+        reversed[0] = target;
+        for (int u = target; u != source; ) {
+            int next = -1;
+            for (int d = 0; d < 4 && next < 0; d++) {
+                int v = grid.passage(u, d);
+                if (v >= 0 && g[v] != INF && g[v] + cost(u) == g[u]) next = v;
+            }
+            if (next < 0 || length > grid.size()) {
+                invalidate();
+                return null;
+            }
+            if (length == reversed.length) reversed = Arrays.copyOf(reversed, length * 2);
+            reversed[length++] = next;
+            u = next;
+        }
+        int[] path = new int[length];
+        for (int i = 0; i < length; i++) path[i] = reversed[length - 1 - i];
+        return path;
+    }
+}
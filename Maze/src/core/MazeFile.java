@@ -0,0 +1,115 @@
+package core;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Format biner maze (.maze), little-endian:
+//   header 32 byte: magic "MAZE", versi format, rows, cols, flags, 12 byte cadangan
+//   lalu satu byte per sel (r * cols + c): nibble bawah = 4 bit dinding, nibble atas = terrain
+// Layout sel sama persis dengan MazeModel, jadi file yang di-mmap bisa langsung dipakai
+// sebagai OffHeapMazeGrid tanpa parsing (zero-copy).
+public final class MazeFile {
+
+    public static final int MAGIC = 0x455A414D; // "MAZE" little-endian
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_SIZE = 32;
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private MazeFile() {}
+
+    public static long fileSize(int rows, int cols) {
+        return HEADER_SIZE + (long) rows * cols;
+    }
+
+    // Tulis maze ke file lewat memory mapping (file lama ditimpa)
+    public static void save(MazeModel model, Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+             Arena arena = Arena.ofConfined()) {
+            MemorySegment file = ch.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(model.rows(), model.cols()), arena);
+            writeHeader(file, model.rows(), model.cols());
+            MemorySegment cells = file.asSlice(HEADER_SIZE, model.size());
+            MemorySegment source = segment(model);
+            if (source != null) {
+                MemorySegment.copy(source, 0, cells, 0, model.size());
+            } else {
+                for (int i = 0; i < model.size(); i++) {
+                    cells.set(ValueLayout.JAVA_BYTE, i, (byte) (model.walls(i) | model.terrain(i) << 4));
+                }
+            }
+            file.force();
+        }
+    }
+
+    // Buka file sebagai OffHeapMazeGrid di atas mapping (zero-copy).
+    // writable = perubahan dinding/terrain langsung tertulis ke file. close() melepas mapping.
+    public static OffHeapMazeGrid open(Path path, boolean writable) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel ch = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = ch.size();
+            if (length < HEADER_SIZE) throw new IOException("Not a maze file: " + path);
+            MemorySegment file = ch.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY,
+                    0, length, arena);
+            int[] dims = readHeader(file, path);
+            return new OffHeapMazeGrid(dims[0], dims[1], file.asSlice(HEADER_SIZE, (long) dims[0] * dims[1]), arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    // Salin file ke grid baru (MazeModel.allocate: heap atau off-heap sesuai ukuran), lepas dari file.
+    // Pemanggil menutup grid hasilnya.
+    public static MazeModel load(Path path) throws IOException {
+        try (OffHeapMazeGrid mapped = open(path, false)) {
+            MazeModel grid = MazeModel.allocate(mapped.rows(), mapped.cols());
+            MemorySegment.copy(mapped.segment(), 0, segment(grid), 0, grid.size());
+            return grid;
+        }
+    }
+
+    // Byte sel langsung untuk dua implementasi bawaan; null = model lain (akses per sel)
+    private static MemorySegment segment(MazeModel model) {
+        if (model instanceof MazeGrid heap) return MemorySegment.ofArray(heap.cells());
+        if (model instanceof OffHeapMazeGrid offHeap) return offHeap.segment();
+        return null;
+    }
+
+    static void writeHeader(MemorySegment file, int rows, int cols) {
+        file.set(INT, 0, MAGIC);
+        file.set(INT, 4, FORMAT_VERSION);
+        file.set(INT, 8, rows);
+        file.set(INT, 12, cols);
+        file.set(INT, 16, 0);
+        file.asSlice(20, HEADER_SIZE - 20).fill((byte) 0);
+    }
+
+    // Header sebagai buffer, untuk penulis streaming (WritableByteChannel)
+    static ByteBuffer header(int rows, int cols) {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE);
+        writeHeader(MemorySegment.ofBuffer(buf), rows, cols);
+        return buf;
+    }
+
+    private static int[] readHeader(MemorySegment file, Path path) throws IOException {
+        if (file.get(INT, 0) != MAGIC) throw new IOException("Not a maze file: " + path);
+        int version = file.get(INT, 4);
+        if (version != FORMAT_VERSION) throw new IOException("Unsupported maze format version " + version + ": " + path);
+        int rows = file.get(INT, 8);
+        int cols = file.get(INT, 12);
+        if (rows <= 0 || cols <= 0 || file.byteSize() < fileSize(rows, cols)) {
+            throw new IOException("Corrupt maze file (" + rows + "x" + cols + "): " + path);
+        }
+        return new int[]{rows, cols};
+    }
+}
@@ -0,0 +1,10 @@
+package core;
+
+// Generator maze headless. generate() me-reset grid lalu mengukir maze sempurna
+// dengan pintu masuk di (0,0) dan pintu keluar di pojok kanan bawah.
+public interface MazeGenerator {
+
+    String name();
+
+    GenerationStats generate(MazeModel grid);
+}
@@ -0,0 +1,101 @@
+package core;
+
+import java.util.Arrays;
+
+// Model maze headless (tanpa Swing) di heap, ukuran bebas.
+// Satu byte per sel di array datar dengan indeks r * cols + c:
+//   bit 0..3 = dinding (0=Top, 1=Right, 2=Bottom, 3=Left)
+//   bit 4..7 = bobot terrain (biaya masuk ke sel)
+public final class MazeGrid implements MazeModel {
+
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;
+
+    private int version;
+
+    public MazeGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new byte[rows * cols];
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(cells, (byte) (ALL_WALLS | DEFAULT_TERRAIN << 4));
+        version++;
+    }
+
+    @Override public int version() { return version; }
+
+    // Akses langsung ke byte sel untuk salin massal (MazeFile)
+    byte[] cells() { return cells; }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+    @Override public int size() { return cells.length; }
+
+    @Override public int index(int r, int c) { return r * cols + c; }
+    @Override public int row(int i) { return i / cols; }
+    @Override public int col(int i) { return i % cols; }
+
+    // --- Dinding ---
+
+    @Override public int walls(int i) { return cells[i] & ALL_WALLS; }
+
+    @Override public boolean hasWall(int i, int dir) { return (cells[i] >> dir & 1) != 0; }
+
+    @Override
+    public int neighbor(int i, int dir) {
+        return switch (dir) {
+            case TOP -> i >= cols ? i - cols : -1;
+            case RIGHT -> (i % cols) + 1 < cols ? i + 1 : -1;
+            case BOTTOM -> i + cols < cells.length ? i + cols : -1;
+            case LEFT -> i % cols > 0 ? i - 1 : -1;
+            default -> throw new IllegalArgumentException("Invalid direction: " + dir);
+        };
+    }
+
+    @Override
+    public int passage(int i, int dir) {
+        return hasWall(i, dir) ? -1 : neighbor(i, dir);
+    }
+
+    @Override
+    public void removeWall(int i, int dir) {
+        cells[i] &= (byte) ~(1 << dir);
+        int n = neighbor(i, dir);
+        if (n >= 0) cells[n] &= (byte) ~(1 << MazeModel.opposite(dir));
+        version++;
+    }
+
+    @Override
+    public void addWall(int i, int dir) {
+        cells[i] |= (byte) (1 << dir);
+        int n = neighbor(i, dir);
+        if (n >= 0) cells[n] |= (byte) (1 << MazeModel.opposite(dir));
+        version++;
+    }
+
+    @Override
+    public void openEntranceAndExit() {
+        cells[0] &= (byte) ~(1 << LEFT);
+        cells[cells.length - 1] &= (byte) ~(1 << RIGHT);
+        version++;
+    }
+
+    // --- Terrain ---
+
+    @Override public int terrain(int i) { return (cells[i] >> 4) & 0x0F; }
+
+    @Override
+    public void setTerrain(int i, int cost) {
+        if (cost < MIN_TERRAIN || cost > MAX_TERRAIN) throw new IllegalArgumentException("Terrain cost out of range: " + cost);
+        cells[i] = (byte) ((cells[i] & ALL_WALLS) | cost << 4);
+        version++;
+    }
+}
@@ -0,0 +1,106 @@
+package core;
+
+// Antarmuka model maze yang dipakai semua generator dan solver.
+// Implementasi: MazeGrid (byte[] di heap, jalur cepat untuk maze kecil/sedang)
+// dan OffHeapMazeGrid (MemorySegment, untuk grid besar tanpa tekanan GC / di luar -Xmx).
+// Keduanya dibatasi MAX_CELLS; off-heap tidak menambah jumlah sel, hanya memindahkan datanya dari heap.
+// Encoding per sel sama: bit 0..3 = dinding, bit 4..7 = bobot terrain.
+// Pemilik grid memanggil close() setelah selesai (no-op untuk MazeGrid).
+public interface MazeModel extends AutoCloseable {
+
+    int TOP = 0;
+    int RIGHT = 1;
+    int BOTTOM = 2;
+    int LEFT = 3;
+
+    int ALL_WALLS = 0x0F;
+    int DEFAULT_TERRAIN = 1;
+    int MIN_TERRAIN = 1;
+    int MAX_TERRAIN = 0x0F;
+
+    // Di atas jumlah sel ini allocate() memilih penyimpanan off-heap
+    int OFF_HEAP_THRESHOLD = 1 << 26;
+
+    // Batas jumlah sel semua implementasi (indeks sel int, array solver int[n]): sekitar 46k x 46k
+    int MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    // Pilih penyimpanan berdasarkan ukuran; dipakai UI, batch runner dan MazeFile.load
+    static MazeModel allocate(int rows, int cols) {
+        if ((long) rows * cols > OFF_HEAP_THRESHOLD) return new OffHeapMazeGrid(rows, cols);
+        return new MazeGrid(rows, cols);
+    }
+
+    static int opposite(int dir) { return dir ^ 2; }
+
+    int rows();
+    int cols();
+    int size();
+
+    // Lepas penyimpanan (memori off-heap / mapping); grid tidak boleh dipakai lagi setelahnya
+    @Override
+    default void close() {
+    }
+
+    // Semua dinding tertutup, terrain kembali ke default
+    void reset();
+
+    // Bertambah setiap kali dinding/terrain berubah; dipakai untuk invalidasi cache
+    int version();
+
+    int walls(int i);
+
+    // Hapus dinding di kedua sisi (sel & tetangga)
+    void removeWall(int i, int dir);
+
+    // Pasang dinding di kedua sisi (untuk edit maze interaktif)
+    void addWall(int i, int dir);
+
+    // Buka pintu masuk di (0,0) dan pintu keluar di pojok kanan bawah
+    void openEntranceAndExit();
+
+    int terrain(int i);
+
+    void setTerrain(int i, int cost);
+
+    default int index(int r, int c) { return r * cols() + c; }
+    default int row(int i) { return i / cols(); }
+    default int col(int i) { return i % cols(); }
+
+    default boolean isValid(int r, int c) { return r >= 0 && r < rows() && c >= 0 && c < cols(); }
+
+    default boolean hasWall(int i, int dir) { return (walls(i) >> dir & 1) != 0; }
+
+    // Tetangga di arah dir, atau -1 jika di luar grid
+    default int neighbor(int i, int dir) {
+        int cols = cols();
+        return switch (dir) {
+            case TOP -> i >= cols ? i - cols : -1;
+            case RIGHT -> (i % cols) + 1 < cols ? i + 1 : -1;
+            case BOTTOM -> i + cols < size() ? i + cols : -1;
+            case LEFT -> i % cols > 0 ? i - 1 : -1;
+            default -> throw new IllegalArgumentException("Invalid direction: " + dir);
+        };
+    }
+
+    // Tetangga yang terhubung (dinding terbuka dan masih di dalam grid), atau -1
+    default int passage(int i, int dir) {
+        return hasWall(i, dir) ? -1 : neighbor(i, dir);
+    }
+
+    // Arah dari sel a ke sel b yang bersebelahan, atau -1
+    default int direction(int a, int b) {
+        int cols = cols();
+        if (b == a - cols) return TOP;
+        if (b == a + cols) return BOTTOM;
+        if (b == a + 1 && b % cols != 0) return RIGHT;
+        if (b == a - 1 && a % cols != 0) return LEFT;
+        return -1;
+    }
+
+    // Jumlah tetangga yang terhubung
+    default int degree(int i) {
+        int deg = 0;
+        for (int d = 0; d < 4; d++) if (passage(i, d) >= 0) deg++;
+        return deg;
+    }
+}
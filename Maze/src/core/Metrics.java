@@ -0,0 +1,79 @@
+package core;
+
+import java.lang.management.ManagementFactory;
+
+// Titik ukur tunggal untuk solver & generator: hasil dibungkus jadi SolveMetrics / GenerationMetrics
+// dan, kalau recording JFR aktif, dikirim sebagai event maze.Solve / maze.Generate.
+// Tanpa recording biayanya hanya dua nanoTime dan dua pembacaan counter alokasi.
+public final class Metrics {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private Metrics() {}
+
+    public static SolveMetrics solve(Solver solver, MazeModel grid, int source, int target, SearchListener listener) {
+        SolveEvent event = new SolveEvent();
+        event.begin();
+        long alloc0 = allocatedBytes();
+        long t0 = System.nanoTime();
+        PathResult res = solver.solve(grid, source, target, listener);
+        long nanos = System.nanoTime() - t0;
+        long alloc = alloc0 < 0 ? -1 : allocatedBytes() - alloc0;
+        event.end();
+
+        SearchCounters c = solver.counters();
+        SolveMetrics m = new SolveMetrics(res, nanos, c.relaxations(), c.pushes(), c.pops(),
+                c.stalePops(), c.peakFrontier(), alloc);
+        if (event.shouldCommit()) {
+            event.algorithm = res.algorithm();
+            event.cells = grid.size();
+            event.found = res.found();
+            event.cost = res.cost();
+            event.expansions = res.expanded();
+            event.relaxations = m.relaxations();
+            event.pushes = m.pushes();
+            event.pops = m.pops();
+            event.stalePops = m.stalePops();
+            event.peakFrontier = m.peakFrontier();
+            event.allocatedBytes = alloc;
+            event.commit();
+        }
+        return m;
+    }
+
+    public static SolveMetrics solve(Solver solver, MazeModel grid, int source, int target) {
+        return solve(solver, grid, source, target, null);
+    }
+
+    public static GenerationMetrics generate(MazeGenerator generator, MazeModel grid) {
+        GenerateEvent event = new GenerateEvent();
+        event.begin();
+        long alloc0 = allocatedBytes();
+        GenerationStats stats = generator.generate(grid);
+        long alloc = alloc0 < 0 ? -1 : allocatedBytes() - alloc0;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.generator = stats.generator();
+            event.seed = stats.seed();
+            event.cells = stats.cells();
+            event.allocatedBytes = alloc;
+            event.commit();
+        }
+        return new GenerationMetrics(stats, alloc);
+    }
+
+    // Byte yang pernah dialokasikan thread ini (HotSpot), atau -1 (termasuk di virtual thread)
+    static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+}
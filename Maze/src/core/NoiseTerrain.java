@@ -0,0 +1,300 @@
+package core;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+// Terrain koheren (value noise fBm) sebagai pengganti bobot acak per sel.
+// Nilai lattice = hash(seed, octave, ix, iy), jadi setiap sel hanya bergantung pada (seed, r, c):
+// grid dikerjakan paralel per pita baris di ForkJoinPool dan hasilnya identik berapa pun jumlah thread.
+// Ambang air/lumpur/rumput diambil dari histogram noise (sampel grid), sehingga proporsi
+// pGrass/pMud tetap terpenuhi: nilai rendah = air (lembah), tengah = lumpur, tinggi = rumput.
+// Terrain ditulis langsung ke nibble atas byte sel; memori tambahan hanya baris lattice per task.
+public final class NoiseTerrain {
+
+    // Ukuran fitur octave pertama dalam sel; octave berikutnya setengahnya
+    public static final double DEFAULT_FEATURE_SIZE = 8;
+    public static final int DEFAULT_OCTAVES = 4;
+
+    // Pita baris per task daun
+    private static final int CHUNK_ROWS = 64;
+
+    // Resolusi histogram untuk ambang (noise dikuantisasi ke BINS tingkat)
+    private static final int BINS = 4096;
+
+    // Histogram diambil dari paling banyak ~64K sel sampel (setiap step baris/kolom);
+    // cukup untuk ambang persentil, dan grid besar tidak perlu dievaluasi dua kali
+    private static final int SAMPLE_CELLS = 1 << 16;
+
+    private final long seed;
+    private final int octaves;
+    private final double[] freq;
+    // Bobot octave (amplitudo dinormalisasi supaya total noise di [0, 1))
+    private final double[] weight;
+    private final ForkJoinPool pool;
+
+    public NoiseTerrain(long seed) {
+        this(seed, DEFAULT_FEATURE_SIZE, DEFAULT_OCTAVES, ForkJoinPool.commonPool());
+    }
+
+    public NoiseTerrain(long seed, double featureSize, int octaves, ForkJoinPool pool) {
+        if (!(featureSize >= 1)) throw new IllegalArgumentException("Invalid feature size: " + featureSize);
+        if (octaves < 1 || octaves > 16) throw new IllegalArgumentException("Invalid octave count: " + octaves);
+        this.seed = seed;
+        this.octaves = octaves;
+        this.pool = pool;
+        freq = new double[octaves];
+        weight = new double[octaves];
+        double total = 2 - 1.0 / (1 << (octaves - 1));
+        for (int o = 0; o < octaves; o++) {
+            freq[o] = (1 << o) / featureSize;
+            weight[o] = 1.0 / (1 << o) / total;
+        }
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    // Noise di satu sel, [0, 1)
+    public double sample(int r, int c) {
+        Sampler s = new Sampler(c + 1);
+        s.row(r);
+        return s.at(c);
+    }
+
+    // Isi terrain seluruh grid: air untuk sisa 1 - pGrass - pMud. Start & finish selalu rumput.
+    public void assign(MazeModel grid, double pGrass, double pMud) {
+        if (pGrass < 0 || pMud < 0 || pGrass + pMud > 1) {
+            throw new IllegalArgumentException("Invalid terrain probabilities: " + pGrass + "/" + pMud);
+        }
+        int rows = grid.rows(), cols = grid.cols();
+        int step = (int) Math.ceil(Math.sqrt((double) grid.size() / SAMPLE_CELLS));
+        int sampleRows = (rows + step - 1) / step;
+
+        // 1. Histogram noise di sampel grid; jumlah per bin tidak bergantung urutan penggabungan
+        int[] hist = sampleRows <= CHUNK_ROWS
+                ? histogram(cols, step, 0, sampleRows)
+                : pool.invoke(new HistogramTask(cols, step, 0, sampleRows));
+        long total = (long) sampleRows * ((cols + step - 1) / step);
+        int waterBelow = threshold(hist, total, 1 - pGrass - pMud);
+        int mudBelow = threshold(hist, total, 1 - pGrass);
+
+        // 2. Tulis terrain per pita baris; pita tidak berbagi sel
+        MemorySegment cells = segment(grid);
+        if (rows <= CHUNK_ROWS) fill(grid, cells, 0, rows, waterBelow, mudBelow);
+        else pool.invoke(new FillTask(grid, cells, 0, rows, waterBelow, mudBelow));
+
+        // Setelah join: ini juga menaikkan version() untuk invalidasi cache solver
+        grid.setTerrain(0, Terrain.COST_GRASS);
+        grid.setTerrain(grid.size() - 1, Terrain.COST_GRASS);
+    }
+
+    // Bin terkecil t dengan jumlah sampel di bin < t minimal share * total
+    private static int threshold(int[] hist, long total, double share) {
+        double need = share * total;
+        if (need <= 0) return 0;
+        long count = 0;
+        for (int t = 0; t < BINS; t++) {
+            count += hist[t];
+            if (count >= need) return t + 1;
+        }
+        return BINS;
+    }
+
+    // Akses byte sel langsung seperti MazeFile; null = model lain, pakai setTerrain
+    private static MemorySegment segment(MazeModel grid) {
+        if (grid instanceof MazeGrid heap) return MemorySegment.ofArray(heap.cells());
+        if (grid instanceof OffHeapMazeGrid offHeap) return offHeap.segment();
+        return null;
+    }
+
+    private int[] histogram(int cols, int step, int from, int to) {
+        int[] hist = new int[BINS];
+        Sampler s = new Sampler(cols);
+        for (int i = from; i < to; i++) {
+            s.row(i * step);
+            for (int c = 0; c < cols; c += step) hist[bin(s.at(c))]++;
+        }
+        return hist;
+    }
+
+    private void fill(MazeModel grid, MemorySegment cells, int r0, int r1, int waterBelow, int mudBelow) {
+        int cols = grid.cols();
+        Sampler s = new Sampler(cols);
+        byte[] row = new byte[cols];
+        double[] noise = new double[cols];
+        for (int r = r0; r < r1; r++) {
+            s.row(r);
+            s.values(noise, cols);
+            for (int c = 0; c < cols; c++) {
+                int b = bin(noise[c]);
+                row[c] = (byte) (b < waterBelow ? Terrain.COST_WATER : b < mudBelow ? Terrain.COST_MUD : Terrain.COST_GRASS);
+            }
+            int base = r * cols;
+            if (cells == null) {
+                for (int c = 0; c < cols; c++) grid.setTerrain(base + c, row[c]);
+            } else {
+                for (int c = 0; c < cols; c++) {
+                    long i = (long) base + c;
+                    byte cell = cells.get(ValueLayout.JAVA_BYTE, i);
+                    cells.set(ValueLayout.JAVA_BYTE, i, (byte) ((cell & MazeModel.ALL_WALLS) | row[c] << 4));
+                }
+            }
+        }
+    }
+
+    private static int bin(double v) {
+        return Math.min(BINS - 1, (int) (v * BINS));
+    }
+
+    @SuppressWarnings("serial") // task fork-join, tidak pernah diserialisasi
+    private final class HistogramTask extends RecursiveTask<int[]> {
+        private final int cols, step, from, to;
+
+        HistogramTask(int cols, int step, int from, int to) {
+            this.cols = cols;
+            this.step = step;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= CHUNK_ROWS) return histogram(cols, step, from, to);
+            int mid = (from + to) >>> 1;
+            HistogramTask left = new HistogramTask(cols, step, from, mid);
+            left.fork();
+            int[] hist = new HistogramTask(cols, step, mid, to).compute();
+            int[] other = left.join();
+            for (int i = 0; i < BINS; i++) hist[i] += other[i];
+            return hist;
+        }
+    }
+
+    @SuppressWarnings("serial") // task fork-join, tidak pernah diserialisasi
+    private final class FillTask extends RecursiveAction {
+        private final MazeModel grid;
+        private final MemorySegment cells;
+        private final int r0, r1, waterBelow, mudBelow;
+
+        FillTask(MazeModel grid, MemorySegment cells, int r0, int r1, int waterBelow, int mudBelow) {
+            this.grid = grid;
+            this.cells = cells;
+            this.r0 = r0;
+            this.r1 = r1;
+            this.waterBelow = waterBelow;
+            this.mudBelow = mudBelow;
+        }
+
+        @Override
+        protected void compute() {
+            if (r1 - r0 <= CHUNK_ROWS) {
+                fill(grid, cells, r0, r1, waterBelow, mudBelow);
+                return;
+            }
+            int mid = (r0 + r1) >>> 1;
+            invokeAll(new FillTask(grid, cells, r0, mid, waterBelow, mudBelow),
+                    new FillTask(grid, cells, mid, r1, waterBelow, mudBelow));
+        }
+    }
+
+    // Evaluasi noise per baris. Per kolom (sekali per Sampler): indeks lattice, bobot fade, dan
+    // setengah hash (seed, octave, ix). Per baris: nilai lattice iy & iy+1 di-cache (hash hanya saat
+    // iy berganti) lalu dicampur dengan bobot y jadi satu baris blend. Per sel tinggal satu lerp per octave.
+    private final class Sampler {
+        private final int[][] ix = new int[octaves][];
+        private final double[][] wx = new double[octaves][];
+        private final long[][] colHash = new long[octaves][];
+        private final double[][] top = new double[octaves][];
+        private final double[][] bottom = new double[octaves][];
+        private final double[][] blend = new double[octaves][];
+        private final int[] latticeRow = new int[octaves];
+
+        Sampler(int cols) {
+            for (int o = 0; o < octaves; o++) {
+                int n = (int) ((cols - 1) * freq[o]) + 2;
+                ix[o] = new int[cols];
+                wx[o] = new double[cols];
+                for (int c = 0; c < cols; c++) {
+                    double x = c * freq[o];
+                    ix[o][c] = (int) x;
+                    wx[o][c] = fade(x - ix[o][c]);
+                }
+                long h = mix(seed + o * 0x9E3779B97F4A7C15L);
+                colHash[o] = new long[n];
+                for (int i = 0; i < n; i++) colHash[o][i] = mix(h ^ i * 0xC2B2AE3D27D4EB4FL);
+                top[o] = new double[n];
+                bottom[o] = new double[n];
+                blend[o] = new double[n];
+                latticeRow[o] = Integer.MIN_VALUE;
+            }
+        }
+
+        void row(int r) {
+            for (int o = 0; o < octaves; o++) {
+                double y = r * freq[o];
+                int iy = (int) y;
+                double wy = fade(y - iy);
+                if (iy == latticeRow[o] + 1) {
+                    double[] t = top[o];
+                    top[o] = bottom[o];
+                    bottom[o] = t;
+                    fillLattice(bottom[o], colHash[o], iy + 1);
+                } else if (iy != latticeRow[o]) {
+                    fillLattice(top[o], colHash[o], iy);
+                    fillLattice(bottom[o], colHash[o], iy + 1);
+                }
+                latticeRow[o] = iy;
+                double[] t = top[o], b = bottom[o], m = blend[o];
+                for (int i = 0; i < m.length; i++) m[i] = t[i] + (b[i] - t[i]) * wy;
+            }
+        }
+
+        // Noise satu sel dari baris terakhir; harus sama persis dengan values()
+        double at(int c) {
+            double v = 0;
+            for (int o = 0; o < octaves; o++) {
+                int i = ix[o][c];
+                double[] m = blend[o];
+                v += weight[o] * (m[i] + (m[i + 1] - m[i]) * wx[o][c]);
+            }
+            return v;
+        }
+
+        // Noise satu baris penuh ke out[0..cols); loop octave di luar supaya loop kolom
+        // hanya membaca array datar
+        void values(double[] out, int cols) {
+            Arrays.fill(out, 0, cols, 0);
+            for (int o = 0; o < octaves; o++) {
+                int[] ixs = ix[o];
+                double[] ws = wx[o], m = blend[o];
+                double a = weight[o];
+                for (int c = 0; c < cols; c++) {
+                    int i = ixs[c];
+                    out[c] += a * (m[i] + (m[i + 1] - m[i]) * ws[c]);
+                }
+            }
+        }
+    }
+
+    // Nilai lattice [0, 1) dari hash SplitMix64 (seed, octave, ix, iy); colHash = bagian (seed, octave, ix)
+    private static void fillLattice(double[] out, long[] colHash, int iy) {
+        long hy = iy * 0x165667B19E3779F9L;
+        for (int i = 0; i < out.length; i++) out[i] = (mix(colHash[i] ^ hy) >>> 11) * 0x1.0p-53;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Interpolasi quintic (turunan pertama & kedua nol di titik lattice, tanpa artefak kotak)
+    private static double fade(double t) {
+        return t * t * t * (t * (t * 6 - 15) + 10);
+    }
+}
@@ -0,0 +1,179 @@
+package core;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+// Varian DialSolver yang seluruh array kerjanya (dist, parent, linked list bucket,
+// bitset closed) berada off-heap. Dipasangkan dengan OffHeapMazeGrid, solve pada
+// grid raksasa tidak mengalokasikan apa pun di heap kecuali jalur hasil.
+// Tutup dengan close() untuk melepas memorinya.
+public final class OffHeapDialSolver implements Solver, AutoCloseable {
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+    private static final ValueLayout.OfByte BYTE = ValueLayout.JAVA_BYTE;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG;
+
+    private final boolean aStar;
+    private final boolean weighted;
+
+    private Arena arena;
+    private int capacity;
+    private MemorySegment dist, parent, next, prev, bucketOf, closed;
+    private int[] heads = new int[0];
+    private final SearchCounters counters = new SearchCounters();
+
+    public OffHeapDialSolver(boolean aStar, boolean weighted) {
+        this.aStar = aStar;
+        this.weighted = weighted;
+    }
+
+    @Override
+    public String name() {
+        return aStar ? "A* (Dial, off-heap)" : "Dijkstra (Dial, off-heap)";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= capacity) return;
+        if (arena != null) arena.close();
+        arena = Arena.ofShared();
+        dist = arena.allocate(4L * n, 4);
+        parent = arena.allocate(4L * n, 4);
+        next = arena.allocate(4L * n, 4);
+        prev = arena.allocate(4L * n, 4);
+        bucketOf = arena.allocate(n);
+        closed = arena.allocate(8L * ((n + 63) >>> 6), 8);
+        capacity = n;
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) arena.close();
+        arena = null;
+        capacity = 0;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        int n = grid.size();
+        ensureCapacity(n);
+        bucketOf.asSlice(0, n).fill((byte) -1);
+        closed.fill((byte) 0);
+        counters.reset();
+
+        int maxCost = weighted ? MazeModel.MAX_TERRAIN : 1;
+        int bucketCount = maxCost + 1 + (aStar ? 1 : 0);
+        if (heads.length != bucketCount) heads = new int[bucketCount];
+        Arrays.fill(heads, -1);
+
+        int cols = grid.cols();
+        int tr = target / cols, tc = target % cols;
+
+        // dist tidak perlu diisi tak hingga: sel yang belum closed dan tidak ada
+        // di bucket (bucketOf = -1) berarti belum pernah dicapai.
+        setInt(dist, source, 0);
+        setInt(parent, source, -1);
+        long cursor = aStar ? manhattan(source, cols, tr, tc) : 0;
+        insert(source, cursor, bucketCount);
+        int queued = 1;
+        counters.push(1);
+
+        int expanded = 0;
+        while (queued > 0) {
+            int b = (int) (cursor % bucketCount);
+            while (heads[b] < 0) {
+                cursor++;
+                b = (int) (cursor % bucketCount);
+            }
+            int current = heads[b];
+            unlink(current);
+            queued--;
+            counters.pops++;
+
+            if (current == target) {
+                return new PathResult(name(), true, getInt(dist, target), expanded, trace(target));
+            }
+            setClosed(current);
+            expanded++;
+            if (listener != null) listener.onExpand(current);
+
+            int base = getInt(dist, current);
+            for (int d = 0; d < 4; d++) {
+                int nb = grid.passage(current, d);
+                if (nb < 0 || isClosed(nb)) continue;
+
+                int newDist = base + (weighted ? grid.terrain(nb) : 1);
+                boolean queuedAlready = bucketOf.get(BYTE, nb) >= 0;
+                if (!queuedAlready || newDist < getInt(dist, nb)) {
+                    if (queuedAlready) {
+                        unlink(nb);
+                    } else {
+                        queued++;
+                        counters.push(queued);
+                        if (listener != null) listener.onDiscover(nb);
+                    }
+                    counters.relaxations++;
+                    setInt(dist, nb, newDist);
+                    setInt(parent, nb, current);
+                    long priority = newDist;
+                    if (aStar) priority += manhattan(nb, cols, tr, tc);
+                    insert(nb, priority, bucketCount);
+                }
+            }
+        }
+        return PathResult.notFound(name(), expanded);
+    }
+
+    private int[] trace(int target) {
+        int length = 0;
+        for (int c = target; c >= 0; c = getInt(parent, c)) length++;
+        int[] path = new int[length];
+        for (int c = target, i = length - 1; c >= 0; c = getInt(parent, c)) path[i--] = c;
+        return path;
+    }
+
+    private void insert(int cell, long priority, int bucketCount) {
+        int b = (int) (priority % bucketCount);
+        int head = heads[b];
+        setInt(next, cell, head);
+        setInt(prev, cell, -1);
+        if (head >= 0) setInt(prev, head, cell);
+        heads[b] = cell;
+        bucketOf.set(BYTE, cell, (byte) b);
+    }
+
+    private void unlink(int cell) {
+        int b = bucketOf.get(BYTE, cell);
+        int p = getInt(prev, cell), nx = getInt(next, cell);
+        if (p >= 0) setInt(next, p, nx);
+        else heads[b] = nx;
+        if (nx >= 0) setInt(prev, nx, p);
+        bucketOf.set(BYTE, cell, (byte) -1);
+    }
+
+    private boolean isClosed(int i) {
+        return (closed.getAtIndex(LONG, i >>> 6) & (1L << i)) != 0;
+    }
+
+    private void setClosed(int i) {
+        closed.setAtIndex(LONG, i >>> 6, closed.getAtIndex(LONG, i >>> 6) | (1L << i));
+    }
+
+    private static int getInt(MemorySegment seg, int i) {
+        return seg.getAtIndex(INT, i);
+    }
+
+    private static void setInt(MemorySegment seg, int i, int value) {
+        seg.setAtIndex(INT, i, value);
+    }
+
+    private static int manhattan(int cell, int cols, int tr, int tc) {
+        return Math.abs(cell / cols - tr) + Math.abs(cell % cols - tc);
+    }
+}
@@ -0,0 +1,128 @@
+package core;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+// Model maze off-heap (Foreign Memory API): satu byte per sel di MemorySegment,
+// encoding sama dengan MazeGrid. Data tidak ikut di-scan GC dan tidak dibatasi -Xmx
+// (jumlah sel tetap sama dengan MazeGrid, lihat MAX_CELLS).
+// Memakai Arena shared sehingga generator/solver paralel boleh membaca bersamaan.
+// Jumlah sel tetap dibatasi MAX_CELLS (indeks int, sekitar 46k x 46k) karena solver memakai indeks int.
+public final class OffHeapMazeGrid implements MazeModel {
+
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final MemorySegment cells;
+    private final Arena arena; // null jika segment dimiliki pihak lain (mis. file mapping)
+
+    private int version;
+
+    public OffHeapMazeGrid(int rows, int cols) {
+        this(rows, cols, checkSize(rows, cols), Arena.ofShared());
+        reset();
+    }
+
+    private OffHeapMazeGrid(int rows, int cols, int size, Arena arena) {
+        this.rows = rows;
+        this.cols = cols;
+        this.size = size;
+        this.arena = arena;
+        this.cells = arena.allocate(size);
+    }
+
+    // Bungkus segment yang sudah ada (isi tidak di-reset); pemilik segment yang menutupnya
+    public OffHeapMazeGrid(int rows, int cols, MemorySegment cells) {
+        this(rows, cols, cells, null);
+    }
+
+    // Bungkus segment yang ikut ditutup bersama arena-nya (dipakai MazeFile untuk file mapping)
+    OffHeapMazeGrid(int rows, int cols, MemorySegment cells, Arena owner) {
+        int size = checkSize(rows, cols);
+        if (cells.byteSize() < size) throw new IllegalArgumentException("Segment too small for " + rows + "x" + cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.size = size;
+        this.cells = cells;
+        this.arena = owner;
+    }
+
+    private static int checkSize(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+        if ((long) rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("Maze too large: " + rows + "x" + cols + " = " + (long) rows * cols
+                    + " cells, limit is " + MAX_CELLS + " (about 46340x46340, cell indices are int)");
+        }
+        return rows * cols;
+    }
+
+    public MemorySegment segment() {
+        return cells;
+    }
+
+    @Override
+    public void close() {
+        if (arena != null) arena.close();
+    }
+
+    @Override
+    public void reset() {
+        cells.fill((byte) (ALL_WALLS | DEFAULT_TERRAIN << 4));
+        version++;
+    }
+
+    @Override public int version() { return version; }
+
+    @Override public int rows() { return rows; }
+    @Override public int cols() { return cols; }
+    @Override public int size() { return size; }
+
+    private int get(int i) {
+        return cells.get(ValueLayout.JAVA_BYTE, i);
+    }
+
+    private void set(int i, int value) {
+        cells.set(ValueLayout.JAVA_BYTE, i, (byte) value);
+    }
+
+    // --- Dinding ---
+
+    @Override public int walls(int i) { return get(i) & ALL_WALLS; }
+
+    @Override public boolean hasWall(int i, int dir) { return (get(i) >> dir & 1) != 0; }
+
+    @Override
+    public void removeWall(int i, int dir) {
+        set(i, get(i) & ~(1 << dir));
+        int n = neighbor(i, dir);
+        if (n >= 0) set(n, get(n) & ~(1 << MazeModel.opposite(dir)));
+        version++;
+    }
+
+    @Override
+    public void addWall(int i, int dir) {
+        set(i, get(i) | 1 << dir);
+        int n = neighbor(i, dir);
+        if (n >= 0) set(n, get(n) | 1 << MazeModel.opposite(dir));
+        version++;
+    }
+
+    @Override
+    public void openEntranceAndExit() {
+        set(0, get(0) & ~(1 << LEFT));
+        set(size - 1, get(size - 1) & ~(1 << RIGHT));
+        version++;
+    }
+
+    // --- Terrain ---
+
+    @Override public int terrain(int i) { return (get(i) >> 4) & 0x0F; }
+
+    @Override
+    public void setTerrain(int i, int cost) {
+        if (cost < MIN_TERRAIN || cost > MAX_TERRAIN) throw new IllegalArgumentException("Terrain cost out of range: " + cost);
+        set(i, (get(i) & ALL_WALLS) | cost << 4);
+        version++;
+    }
+}
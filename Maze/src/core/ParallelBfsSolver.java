@@ -0,0 +1,241 @@
+package core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// BFS level-synchronous paralel. Frontier level aktif & berikutnya = array int,
+// dipotong per chunk ke worker ForkJoinPool; visited = bitmap long[] yang di-set atomik.
+// Urutan frontier dibuat deterministik (claim-min): sel baru dimiliki pasangan (posisi induk, arah)
+// terkecil, lalu ditulis urut per chunk. Hasilnya urutan antrian, jalur, "Nodes Visited" dan event
+// listener identik dengan UnweightedSolver(true), berapa pun jumlah thread.
+public final class ParallelBfsSolver implements Solver {
+
+    // Frontier lebih kecil dari ini diproses sekuensial (overhead fork lebih mahal)
+    public static final int PARALLEL_THRESHOLD = 2048;
+    private static final int MIN_CHUNK = 1024;
+    private static final int MAX_PARALLEL_FRONTIER = Integer.MAX_VALUE >> 2;
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ForkJoinPool pool;
+
+    private int[] current = new int[0];
+    private int[] next = new int[0];
+    private int[] parent = new int[0];
+    private int[] claim = new int[0];
+    private long[] seen = new long[0];
+    private int[] chunkCount = new int[0];
+    private boolean claimDirty;
+    private final SearchCounters counters = new SearchCounters();
+
+    // Posisi target di level yang baru ditulis (-1 = belum ketemu)
+    private int lastTargetAt;
+
+    public ParallelBfsSolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelBfsSolver(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public String name() {
+        return "Parallel BFS";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        int n = grid.size();
+        if (parent.length < n) {
+            current = new int[n];
+            next = new int[n];
+            parent = new int[n];
+            claim = new int[n];
+            seen = Bits.create(n);
+        }
+        Arrays.fill(seen, 0);
+        claimDirty = true;
+        counters.reset();
+        counters.push(1);
+
+        int size = 1;
+        current[0] = source;
+        parent[source] = -1;
+        Bits.set(seen, source);
+
+        int expanded = 0;
+        int targetAt = source == target ? 0 : -1;
+        while (size > 0) {
+            if (targetAt >= 0 && listener == null) {
+                expanded += targetAt + 1;
+                counters.pops += targetAt + 1;
+                int[] path = PathResult.trace(parent, target);
+                return new PathResult(name(), true, path.length - 1, expanded, path);
+            }
+
+            // Kunci klaim = posisi * 4 + arah, jadi frontier raksasa (> 2^29) tetap sekuensial
+            boolean parallel = size >= PARALLEL_THRESHOLD && size <= MAX_PARALLEL_FRONTIER && pool.getParallelism() > 1;
+            int nextSize = parallel ? expandParallel(grid, size, target) : expandSequential(grid, size, target);
+            int nextTargetAt = lastTargetAt;
+            // Per level: seluruh level berikutnya masuk frontier sekaligus
+            counters.relaxations += nextSize;
+            counters.pushes += nextSize;
+            counters.peakFrontier = Math.max(counters.peakFrontier, nextSize);
+
+            // Putar ulang event dengan urutan antrian BFS sekuensial
+            if (listener != null) {
+                int limit = targetAt >= 0 ? targetAt : size;
+                for (int p = 0, k = 0; p < limit; p++) {
+                    int u = current[p];
+                    listener.onExpand(u);
+                    while (k < nextSize && parent[next[k]] == u) listener.onDiscover(next[k++]);
+                }
+                if (targetAt >= 0) {
+                    expanded += targetAt + 1;
+                    counters.pops += targetAt + 1;
+                    int[] path = PathResult.trace(parent, target);
+                    return new PathResult(name(), true, path.length - 1, expanded, path);
+                }
+            }
+
+            expanded += size;
+            counters.pops += size;
+            int[] swap = current;
+            current = next;
+            next = swap;
+            size = nextSize;
+            targetAt = nextTargetAt;
+        }
+        return PathResult.notFound(name(), expanded);
+    }
+
+    private int expandSequential(MazeModel grid, int size, int target) {
+        int tail = 0;
+        lastTargetAt = -1;
+        for (int p = 0; p < size; p++) {
+            int u = current[p];
+            for (int d = 0; d < 4; d++) {
+                int v = grid.passage(u, d);
+                if (v >= 0 && !Bits.get(seen, v)) {
+                    Bits.set(seen, v);
+                    parent[v] = u;
+                    if (v == target) lastTargetAt = tail;
+                    next[tail++] = v;
+                }
+            }
+        }
+        return tail;
+    }
+
+    private int expandParallel(MazeModel grid, int size, int target) {
+        int chunks = Math.min(pool.getParallelism() * 4, (size + MIN_CHUNK - 1) / MIN_CHUNK);
+        if (chunkCount.length < chunks + 1) chunkCount = new int[chunks + 1];
+        lastTargetAt = -1;
+        // Kunci klaim di-reset sekali per solve, hanya kalau ada level yang diproses paralel
+        if (claimDirty) {
+            Arrays.fill(claim, Integer.MAX_VALUE);
+            claimDirty = false;
+        }
+
+        // 1. Klaim: tiap sel baru menyimpan kunci (posisi induk * 4 + arah) terkecil
+        pool.invoke(new LevelTask(grid, PHASE_CLAIM, size, chunks, 0, chunks, target));
+        // 2. Hitung pemenang per chunk, lalu prefix sum jadi offset tulis
+        pool.invoke(new LevelTask(grid, PHASE_COUNT, size, chunks, 0, chunks, target));
+        int total = 0;
+        for (int c = 0; c < chunks; c++) {
+            int count = chunkCount[c];
+            chunkCount[c] = total;
+            total += count;
+        }
+        // 3. Tulis frontier berikutnya berurutan, set parent & bit visited
+        pool.invoke(new LevelTask(grid, PHASE_WRITE, size, chunks, 0, chunks, target));
+        return total;
+    }
+
+    private static final int PHASE_CLAIM = 0, PHASE_COUNT = 1, PHASE_WRITE = 2;
+
+    @SuppressWarnings("serial") // task fork-join, tidak pernah diserialisasi
+    private final class LevelTask extends RecursiveAction {
+        private final MazeModel grid;
+        private final int phase, size, chunks, from, to, target;
+
+        LevelTask(MazeModel grid, int phase, int size, int chunks, int from, int to, int target) {
+            this.grid = grid;
+            this.phase = phase;
+            this.size = size;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new LevelTask(grid, phase, size, chunks, from, mid, target),
+                        new LevelTask(grid, phase, size, chunks, mid, to, target));
+                return;
+            }
+            int lo = (int) ((long) size * from / chunks);
+            int hi = (int) ((long) size * (from + 1) / chunks);
+            switch (phase) {
+                case PHASE_CLAIM -> claim(lo, hi);
+                case PHASE_COUNT -> chunkCount[from] = count(lo, hi);
+                default -> write(lo, hi, chunkCount[from]);
+            }
+        }
+
+        private void claim(int lo, int hi) {
+            for (int p = lo; p < hi; p++) {
+                int u = current[p];
+                for (int d = 0; d < 4; d++) {
+                    int v = grid.passage(u, d);
+                    if (v < 0 || Bits.get(seen, v)) continue;
+                    int key = p << 2 | d;
+                    int old = (int) INTS.getVolatile(claim, v);
+                    while (key < old && !INTS.compareAndSet(claim, v, old, key)) {
+                        old = (int) INTS.getVolatile(claim, v);
+                    }
+                }
+            }
+        }
+
+        private int count(int lo, int hi) {
+            int count = 0;
+            for (int p = lo; p < hi; p++) {
+                int u = current[p];
+                for (int d = 0; d < 4; d++) {
+                    int v = grid.passage(u, d);
+                    if (v >= 0 && !Bits.get(seen, v) && claim[v] == (p << 2 | d)) count++;
+                }
+            }
+            return count;
+        }
+
+        private void write(int lo, int hi, int offset) {
+            for (int p = lo; p < hi; p++) {
+                int u = current[p];
+                for (int d = 0; d < 4; d++) {
+                    int v = grid.passage(u, d);
+                    if (v >= 0 && !Bits.get(seen, v) && claim[v] == (p << 2 | d)) {
+                        parent[v] = u;
+                        LONGS.getAndBitwiseOr(seen, v >>> 6, 1L << v);
+                        if (v == target) lastTargetAt = offset;
+                        next[offset++] = v;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package core;
+
+// Hasil solver headless. path berisi indeks sel dari start sampai target (kosong jika gagal).
+public record PathResult(String algorithm, boolean found, int cost, int expanded, int[] path) {
+
+    public static PathResult notFound(String algorithm, int expanded) {
+        return new PathResult(algorithm, false, -1, expanded, new int[0]);
+    }
+
+    // Telusuri rantai parent dari target (parent start = -1), hasil urut start -> target
+    static int[] trace(int[] parent, int target) {
+        int length = 0;
+        for (int c = target; c >= 0; c = parent[c]) length++;
+        int[] path = new int[length];
+        for (int c = target, i = length - 1; c >= 0; c = parent[c]) path[i--] = c;
+        return path;
+    }
+}
@@ -0,0 +1,178 @@
+package core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache LRU pohon jalur terpendek per (source, weighted) untuk satu grid.
+// Total byte dist/parent dibatasi maxBytes: pohon yang paling lama tidak dipakai dibuang dulu.
+// Saat grid berganti atau version() berubah, semua pohon dibuang (jalur lama bisa menembus dinding baru).
+// Pohon yang sudah dikembalikan tidak pernah ditulis ulang (array tidak dipakai ulang setelah evict),
+// jadi tetap benar selama grid-nya belum berubah (lihat ShortestPathTree.isStale()), walau sudah keluar dari cache.
+public final class PathTreeCache {
+
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    // Hasil lookup: hit = pohon sudah ada di cache (ditentukan di dalam lock yang sama dengan lookup)
+    public record Lookup(ShortestPathTree tree, boolean hit) {}
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Long, ShortestPathTree> trees = new LinkedHashMap<>(16, 0.75f, true);
+    private MazeModel grid;
+    private int version;
+    private long bytes;
+
+    private long hits, misses, evictions;
+
+    // Scratch untuk membangun pohon, dipakai ulang antar build
+    private final IndexedMinHeap heap = new IndexedMinHeap(0);
+    private int[] queue = new int[0];
+
+    public PathTreeCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public PathTreeCache(long maxBytes) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("Invalid cache size: " + maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    public synchronized boolean contains(MazeModel grid, int source, boolean weighted) {
+        sync(grid);
+        return trees.containsKey(key(source, weighted));
+    }
+
+    public ShortestPathTree tree(MazeModel grid, int source, boolean weighted) {
+        return lookup(grid, source, weighted, null, null).tree();
+    }
+
+    // Pohon dari cache, atau dibangun (Dijkstra / BFS penuh) lalu disimpan.
+    // listener & counters hanya dipakai saat membangun.
+    public synchronized Lookup lookup(MazeModel grid, int source, boolean weighted,
+                                      SearchListener listener, SearchCounters counters) {
+        sync(grid);
+        long key = key(source, weighted);
+        ShortestPathTree tree = trees.get(key);
+        if (tree != null) {
+            hits++;
+            return new Lookup(tree, true);
+        }
+        misses++;
+        tree = weighted ? dijkstra(grid, source, listener, counters) : bfs(grid, source, listener, counters);
+        if (tree.bytes() <= maxBytes) {
+            trees.put(key, tree);
+            bytes += tree.bytes();
+            evict();
+        }
+        return new Lookup(tree, false);
+    }
+
+    public synchronized void clear() {
+        trees.clear();
+        bytes = 0;
+    }
+
+    public synchronized int size() { return trees.size(); }
+    public synchronized long bytes() { return bytes; }
+    public synchronized long hits() { return hits; }
+    public synchronized long misses() { return misses; }
+    public synchronized long evictions() { return evictions; }
+    public long maxBytes() { return maxBytes; }
+
+    private static long key(int source, boolean weighted) {
+        return (long) source << 1 | (weighted ? 1 : 0);
+    }
+
+    // Grid lain atau grid yang sudah berubah: semua pohon tidak berlaku lagi
+    private void sync(MazeModel grid) {
+        if (grid != this.grid || grid.version() != version) {
+            clear();
+            this.grid = grid;
+            this.version = grid.version();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Long, ShortestPathTree>> it = trees.entrySet().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            ShortestPathTree eldest = it.next().getValue();
+            it.remove();
+            bytes -= eldest.bytes();
+            evictions++;
+        }
+    }
+
+    private ShortestPathTree dijkstra(MazeModel grid, int source, SearchListener listener, SearchCounters counters) {
+        int n = grid.size();
+        int[] dist = new int[n], parent = new int[n];
+        Arrays.fill(dist, INF);
+        heap.ensureCapacity(n);
+        heap.clear();
+        if (counters != null) counters.reset();
+
+        dist[source] = 0;
+        parent[source] = -1;
+        heap.pushOrDecrease(source, 0);
+        if (counters != null) counters.push(1);
+        int settled = 0;
+        while (!heap.isEmpty()) {
+            int u = heap.pop();
+            settled++;
+            if (listener != null) listener.onExpand(u);
+            int du = dist[u];
+            for (int d = 0; d < 4; d++) {
+                int v = grid.passage(u, d);
+                if (v < 0) continue;
+                int nd = du + grid.terrain(v);
+                if (nd < dist[v]) {
+                    boolean fresh = dist[v] == INF;
+                    dist[v] = nd;
+                    parent[v] = u;
+                    heap.pushOrDecrease(v, nd);
+                    if (fresh && listener != null) listener.onDiscover(v);
+                    if (counters != null) {
+                        counters.relaxations++;
+                        if (fresh) counters.push(heap.size());
+                    }
+                }
+            }
+        }
+        if (counters != null) counters.pops = settled;
+        return new ShortestPathTree(grid, source, true, dist, parent, settled);
+    }
+
+    private ShortestPathTree bfs(MazeModel grid, int source, SearchListener listener, SearchCounters counters) {
+        int n = grid.size();
+        int[] dist = new int[n], parent = new int[n];
+        Arrays.fill(dist, INF);
+        if (queue.length < n) queue = new int[n];
+        if (counters != null) counters.reset();
+
+        int head = 0, tail = 0;
+        queue[tail++] = source;
+        dist[source] = 0;
+        parent[source] = -1;
+        while (head < tail) {
+            int u = queue[head++];
+            if (listener != null) listener.onExpand(u);
+            for (int d = 0; d < 4; d++) {
+                int v = grid.passage(u, d);
+                if (v < 0 || dist[v] != INF) continue;
+                dist[v] = dist[u] + 1;
+                parent[v] = u;
+                queue[tail++] = v;
+                if (listener != null) listener.onDiscover(v);
+            }
+        }
+        if (counters != null) {
+            // Setiap sel yang dicapai masuk & keluar antrean tepat sekali
+            counters.relaxations = tail - 1;
+            counters.pushes = tail;
+            counters.pops = tail;
+        }
+        return new ShortestPathTree(grid, source, false, dist, parent, tail);
+    }
+}
@@ -0,0 +1,79 @@
+package core;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Randomized Prim dengan frontier terindeks.
+// Frontier = array int + bitset keanggotaan, hapus acak dengan swap-with-last,
+// jadi setiap langkah O(1) dan total generate linear terhadap jumlah sel.
+public final class PrimGenerator implements MazeGenerator {
+
+    private final long seed;
+
+    public PrimGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    @Override
+    public String name() {
+        return "Prim (indexed)";
+    }
+
+    @Override
+    public GenerationStats generate(MazeModel grid) {
+        long t0 = System.nanoTime();
+        grid.reset();
+
+        int n = grid.size();
+        SplittableRandom rand = new SplittableRandom(seed);
+        long[] inTree = Bits.create(n);
+        long[] inFrontier = Bits.create(n);
+        int[] frontier = new int[Math.min(n, 1 << 16)];
+        int frontierSize = 0;
+        int[] candidates = new int[4];
+
+        int start = 0;
+        Bits.set(inTree, start);
+        for (int d = 0; d < 4; d++) {
+            int nb = grid.neighbor(start, d);
+            if (nb >= 0) {
+                Bits.set(inFrontier, nb);
+                frontier[frontierSize++] = nb;
+            }
+        }
+
+        while (frontierSize > 0) {
+            // Ambil sel acak lalu tukar dengan elemen terakhir
+            int j = rand.nextInt(frontierSize);
+            int current = frontier[j];
+            frontier[j] = frontier[--frontierSize];
+
+            // Sambungkan ke salah satu tetangga yang sudah masuk maze
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nb = grid.neighbor(current, d);
+                if (nb >= 0 && Bits.get(inTree, nb)) candidates[count++] = d;
+            }
+            grid.removeWall(current, candidates[rand.nextInt(count)]);
+            Bits.set(inTree, current);
+
+            for (int d = 0; d < 4; d++) {
+                int nb = grid.neighbor(current, d);
+                if (nb >= 0 && !Bits.get(inTree, nb) && !Bits.get(inFrontier, nb)) {
+                    Bits.set(inFrontier, nb);
+                    if (frontierSize == frontier.length) {
+                        frontier = Arrays.copyOf(frontier, Math.min(n, frontier.length * 2));
+                    }
+                    frontier[frontierSize++] = nb;
+                }
+            }
+        }
+
+        grid.openEntranceAndExit();
+        return new GenerationStats(name(), seed, n, System.nanoTime() - t0);
+    }
+}
@@ -0,0 +1,33 @@
+package core;
+
+// Penghitung kerja frontier untuk solve terakhir; diisi solver lewat field package-private.
+// pushes = sel/node baru masuk frontier (decrease-key tidak dihitung, hanya relaxations),
+// stalePops = entri basi yang di-pop (selalu 0 untuk solver dengan decrease-key di repo ini).
+public final class SearchCounters {
+
+    long relaxations;
+    long pushes;
+    long pops;
+    long stalePops;
+    int peakFrontier;
+
+    void reset() {
+        relaxations = 0;
+        pushes = 0;
+        pops = 0;
+        stalePops = 0;
+        peakFrontier = 0;
+    }
+
+    // Satu push; frontier = ukuran frontier setelah push
+    void push(int frontier) {
+        pushes++;
+        if (frontier > peakFrontier) peakFrontier = frontier;
+    }
+
+    public long relaxations() { return relaxations; }
+    public long pushes() { return pushes; }
+    public long pops() { return pops; }
+    public long stalePops() { return stalePops; }
+    public int peakFrontier() { return peakFrontier; }
+}
@@ -0,0 +1,13 @@
+package core;
+
+// Callback opsional dari solver, misalnya untuk animasi di UI.
+// Solver memanggil null-check dulu, jadi tanpa listener tidak ada overhead.
+@FunctionalInterface
+public interface SearchListener {
+
+    // Sel dikeluarkan dari frontier dan diproses (tidak termasuk sel tujuan)
+    void onExpand(int cell);
+
+    // Sel pertama kali masuk ke frontier
+    default void onDiscover(int cell) {}
+}
@@ -0,0 +1,57 @@
+package core;
+
+// Pohon jalur terpendek dari satu source ke semua sel: dist & parent primitif.
+// Biaya ke target mana pun O(1), jalurnya O(panjang jalur). Dibangun oleh PathTreeCache
+// dan hanya valid untuk version() grid saat dibangun. Array-nya tidak diubah lagi setelah dibangun,
+// jadi pohon tetap bisa dipakai walau sudah dibuang dari cache.
+public final class ShortestPathTree {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    final MazeModel grid;
+    final int source;
+    final boolean weighted;
+    final int version;
+    final int[] dist;
+    final int[] parent;
+    final int settled;
+
+    ShortestPathTree(MazeModel grid, int source, boolean weighted, int[] dist, int[] parent, int settled) {
+        this.grid = grid;
+        this.source = source;
+        this.weighted = weighted;
+        this.version = grid.version();
+        this.dist = dist;
+        this.parent = parent;
+        this.settled = settled;
+    }
+
+    public int source() { return source; }
+    public boolean isWeighted() { return weighted; }
+
+    // Jumlah sel yang dicapai (di-expand saat membangun)
+    public int settled() { return settled; }
+
+    public boolean isStale() {
+        return grid.version() != version;
+    }
+
+    public boolean reaches(int target) {
+        return dist[target] != INF;
+    }
+
+    // Biaya jalur terpendek, atau -1 jika target tidak terjangkau
+    public int cost(int target) {
+        return dist[target] == INF ? -1 : dist[target];
+    }
+
+    // Sel dari source sampai target (kosong jika tidak terjangkau)
+    public int[] path(int target) {
+        if (dist[target] == INF) return new int[0];
+        return PathResult.trace(parent, target);
+    }
+
+    public long bytes() {
+        return 8L * dist.length;
+    }
+}
@@ -0,0 +1,51 @@
+package core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Event JFR per solve (aktif di recording dengan event "maze.Solve"); durasi = wall time solve
+@Name("maze.Solve")
+@Label("Maze Solve")
+@Category({"Maze", "Solver"})
+@Description("One solver run with frontier counters")
+@StackTrace(false)
+final class SolveEvent extends jdk.jfr.Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Cells")
+    int cells;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Cost")
+    int cost;
+
+    @Label("Expansions")
+    long expansions;
+
+    @Label("Relaxations")
+    long relaxations;
+
+    @Label("Pushes")
+    long pushes;
+
+    @Label("Pops")
+    long pops;
+
+    @Label("Stale Pops")
+    long stalePops;
+
+    @Label("Peak Frontier")
+    int peakFrontier;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+}
@@ -0,0 +1,26 @@
+package core;
+
+// Metrik terstruktur satu kali solve: hasil, wall time, kerja frontier, dan byte yang dialokasikan
+// thread pemanggil (-1 jika JVM tidak mendukung). UI, benchmark, dan JFR memakai data yang sama.
+public record SolveMetrics(PathResult result, long nanos, long relaxations, long pushes, long pops,
+                           long stalePops, int peakFrontier, long allocatedBytes) {
+
+    public String algorithm() {
+        return result.algorithm();
+    }
+
+    public long expansions() {
+        return result.expanded();
+    }
+
+    public double millis() {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s found=%b cost=%d time=%.3fms expanded=%d relaxed=%d pushes=%d pops=%d stale=%d peak=%d alloc=%d",
+                algorithm(), result.found(), result.cost(), millis(), expansions(), relaxations,
+                pushes, pops, stalePops, peakFrontier, allocatedBytes);
+    }
+}
@@ -0,0 +1,19 @@
+package core;
+
+// Solver headless di atas MazeModel. Implementasi boleh menyimpan array kerja
+// antar pemanggilan, jadi satu instance tidak boleh dipakai bersamaan oleh beberapa thread.
+public interface Solver {
+
+    String name();
+
+    PathResult solve(MazeModel grid, int source, int target, SearchListener listener);
+
+    default PathResult solve(MazeModel grid, int source, int target) {
+        return solve(grid, source, target, null);
+    }
+
+    // Counter kerja frontier dari solve terakhir (lihat Metrics); solver tanpa instrumentasi = nol semua
+    default SearchCounters counters() {
+        return new SearchCounters();
+    }
+}
@@ -0,0 +1,93 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Menjalankan beberapa solver sekaligus di atas maze yang sama.
+// Maze hanya dibaca; setiap solver punya array visited/parent/dist sendiri,
+// jadi waktu total kira-kira sama dengan solver yang paling lambat.
+public final class SolverRace {
+
+    // metrics = hasil & wall time solver itu sendiri, pathCost = biaya jalur dihitung ulang dengan bobot yang sama
+    public record Entry(SolveMetrics metrics, int pathCost) {
+
+        public PathResult result() {
+            return metrics.result();
+        }
+
+        public long nanos() {
+            return metrics.nanos();
+        }
+
+        public double millis() {
+            return metrics.millis();
+        }
+    }
+
+    public record Result(List<Entry> entries, long wallNanos) {
+
+        public double wallMillis() {
+            return wallNanos / 1_000_000.0;
+        }
+
+        // Jumlah waktu semua solver, yaitu waktu yang dibutuhkan jika dijalankan berurutan
+        public double sequentialMillis() {
+            long sum = 0;
+            for (Entry e : entries) sum += e.nanos();
+            return sum / 1_000_000.0;
+        }
+
+        // Entry dengan jalur termurah (seri = yang lebih dulu di daftar), atau null kalau tidak ada yang menemukan jalur
+        public Entry cheapest() {
+            Entry best = null;
+            for (Entry e : entries) {
+                if (e.pathCost() >= 0 && (best == null || e.pathCost() < best.pathCost())) best = e;
+            }
+            return best;
+        }
+    }
+
+    private SolverRace() {}
+
+    public static Result run(MazeModel grid, int source, int target, List<Solver> solvers, boolean weighted) {
+        return run(ForkJoinPool.commonPool(), grid, source, target, solvers, weighted);
+    }
+
+    // Solver di daftar harus instance terpisah (satu instance tidak thread-safe)
+    public static Result run(ForkJoinPool pool, MazeModel grid, int source, int target,
+                             List<Solver> solvers, boolean weighted) {
+        List<Callable<Entry>> tasks = new ArrayList<>(solvers.size());
+        for (Solver solver : solvers) {
+            tasks.add(() -> {
+                SolveMetrics m = Metrics.solve(solver, grid, source, target);
+                return new Entry(m, pathCost(grid, m.result().path(), weighted));
+            });
+        }
+
+        long t0 = System.nanoTime();
+        List<Future<Entry>> futures = pool.invokeAll(tasks);
+        List<Entry> entries = new ArrayList<>(futures.size());
+        try {
+            for (Future<Entry> f : futures) entries.add(f.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Race interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Solver failed", e.getCause());
+        }
+        return new Result(entries, System.nanoTime() - t0);
+    }
+
+    // Biaya jalur: jumlah bobot terrain sel yang dimasuki (atau jumlah langkah jika tidak weighted)
+    public static int pathCost(MazeModel grid, int[] path, boolean weighted) {
+        if (path.length == 0) return -1;
+        if (!weighted) return path.length - 1;
+        int cost = 0;
+        for (int i = 1; i < path.length; i++) cost += grid.terrain(path[i]);
+        return cost;
+    }
+}
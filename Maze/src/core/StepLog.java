@@ -0,0 +1,48 @@
+package core;
+
+import java.util.Arrays;
+
+// Log langkah solver dalam satu array int: cell >= 0 = expand, ~cell (negatif) = discover.
+// Solver berjalan penuh tanpa sleep; UI memutar ulang log ini sesuai frame rate.
+public final class StepLog implements SearchListener {
+
+    private int[] events;
+    private int size;
+    private int expandCount;
+
+    public StepLog() {
+        this(1024);
+    }
+
+    public StepLog(int initialCapacity) {
+        events = new int[Math.max(16, initialCapacity)];
+    }
+
+    @Override
+    public void onExpand(int cell) {
+        add(cell);
+        expandCount++;
+    }
+
+    @Override
+    public void onDiscover(int cell) {
+        add(~cell);
+    }
+
+    private void add(int event) {
+        if (size == events.length) events = Arrays.copyOf(events, size * 2);
+        events[size++] = event;
+    }
+
+    public int size() { return size; }
+    public int expandCount() { return expandCount; }
+    public int get(int i) { return events[i]; }
+
+    public static boolean isExpand(int event) { return event >= 0; }
+    public static int cell(int event) { return event >= 0 ? event : ~event; }
+
+    public void clear() {
+        size = 0;
+        expandCount = 0;
+    }
+}
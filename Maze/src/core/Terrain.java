@@ -0,0 +1,71 @@
+package core;
+
+import java.util.Random;
+
+// Pengisian terrain dan penambahan loop, dipindah dari WeightedMaze supaya bisa dipakai headless
+public final class Terrain {
+
+    public static final int COST_GRASS = 1;
+    public static final int COST_MUD = 5;
+    public static final int COST_WATER = 10;
+
+    private Terrain() {}
+
+    // Bobot acak per sel: rumput dengan peluang pGrass, lumpur pMud, sisanya air.
+    // Start (0,0) dan finish (pojok kanan bawah) selalu rumput.
+    public static void assignRandom(MazeModel grid, Random rand, double pGrass, double pMud) {
+        for (int i = 0; i < grid.size(); i++) {
+            double p = rand.nextDouble();
+            if (p < pGrass) grid.setTerrain(i, COST_GRASS);
+            else if (p < pGrass + pMud) grid.setTerrain(i, COST_MUD);
+            else grid.setTerrain(i, COST_WATER);
+        }
+        grid.setTerrain(0, COST_GRASS);
+        grid.setTerrain(grid.size() - 1, COST_GRASS);
+    }
+
+    // Menghapus dinding secara acak untuk membuat jalur alternatif (hindari pinggir)
+    public static void addLoops(MazeModel grid, Random rand, int count) {
+        int rows = grid.rows(), cols = grid.cols();
+        if (rows < 3 || cols < 3) return;
+        // Batas atas: tidak mungkin menghapus lebih banyak dinding daripada yang masih ada
+        // (tanpa ini loop di bawah tidak berhenti pada maze kecil dengan count besar)
+        count = Math.min(count, removableWalls(grid));
+
+        int removed = 0;
+        while (removed < count) {
+            int r = rand.nextInt(rows - 2) + 1;
+            int c = rand.nextInt(cols - 2) + 1;
+
+            int cell = grid.index(r, c);
+            // Pilih dinding acak untuk dihapus (0=Top, 1=Right, 2=Bottom, 3=Left)
+            int wallIdx = rand.nextInt(4);
+
+            // Cek apakah dinding itu masih ada, lalu hapus di kedua sisi
+            if (grid.hasWall(cell, wallIdx) && grid.neighbor(cell, wallIdx) >= 0) {
+                grid.removeWall(cell, wallIdx);
+                removed++;
+            }
+        }
+    }
+
+    // Dinding yang bisa dipilih addLoops: milik sel dalam (bukan pinggir), dihitung sekali per dinding
+    private static int removableWalls(MazeModel grid) {
+        int rows = grid.rows(), cols = grid.cols();
+        int count = 0;
+        for (int r = 1; r < rows - 1; r++) {
+            for (int c = 1; c < cols - 1; c++) {
+                int cell = grid.index(r, c);
+                for (int d = 0; d < 4; d++) {
+                    if (!grid.hasWall(cell, d)) continue;
+                    int nb = grid.neighbor(cell, d);
+                    int nr = grid.row(nb), nc = grid.col(nb);
+                    boolean inner = nr > 0 && nr < rows - 1 && nc > 0 && nc < cols - 1;
+                    // Dinding antar dua sel dalam terlihat dari kedua sisi: hitung dari sisi RIGHT/BOTTOM saja
+                    if (!inner || d == MazeModel.RIGHT || d == MazeModel.BOTTOM) count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,246 @@
+package core;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Prim paralel per tile di ForkJoinPool.
+// Grid dipotong jadi tile tileSize x tileSize; tiap tile diukir Prim terindeks sendiri
+// (SplittableRandom hasil split berurutan, jadi hasil sama berapa pun jumlah thread).
+// Setelah itu tile disambung lewat spanning tree acak antar tile: tepat satu lorong per
+// sisi tile yang masuk tree, sehingga hasil tetap maze sempurna (terhubung, tanpa loop).
+public final class TiledPrimGenerator implements MazeGenerator {
+
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    // Tile sekecil ini (dalam jumlah tile) dikerjakan satu task tanpa fork lagi
+    private static final int LEAF_TILES = 4;
+
+    private final long seed;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+
+    public TiledPrimGenerator(long seed) {
+        this(seed, DEFAULT_TILE_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public TiledPrimGenerator(long seed, int tileSize) {
+        this(seed, tileSize, ForkJoinPool.commonPool());
+    }
+
+    public TiledPrimGenerator(long seed, int tileSize, ForkJoinPool pool) {
+        if (tileSize < 1) throw new IllegalArgumentException("Invalid tile size: " + tileSize);
+        this.seed = seed;
+        this.tileSize = tileSize;
+        this.pool = pool;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    @Override
+    public String name() {
+        return "Prim (tiled, parallel)";
+    }
+
+    @Override
+    public GenerationStats generate(MazeModel grid) {
+        long t0 = System.nanoTime();
+        grid.reset();
+
+        int tileRows = (grid.rows() + tileSize - 1) / tileSize;
+        int tileCols = (grid.cols() + tileSize - 1) / tileSize;
+        int tiles = tileRows * tileCols;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] tileRandom = new SplittableRandom[tiles];
+        for (int t = 0; t < tiles; t++) tileRandom[t] = root.split();
+
+        // 1. Ukir tiap tile secara paralel langsung ke byte sel (tanpa removeWall, jadi tanpa version++
+        //    bersamaan); tile tidak berbagi sel. Model lain tanpa akses byte: diukir berurutan.
+        MemorySegment cells = segment(grid);
+        if (cells != null) pool.invoke(new CarveTask(grid, cells, tileCols, tileRandom, 0, tiles));
+        else new CarveTask(grid, null, tileCols, tileRandom, 0, tiles).compute();
+
+        // 2. Spanning tree acak antar tile, buka satu lorong di batas tiap pasangan tile
+        stitch(grid, tileRows, tileCols, root);
+
+        // Setelah join, di thread ini: version() naik di sini, deterministik untuk invalidasi cache solver
+        grid.openEntranceAndExit();
+        return new GenerationStats(name(), seed, grid.size(), System.nanoTime() - t0);
+    }
+
+    // Akses byte sel langsung seperti NoiseTerrain; null = model lain
+    private static MemorySegment segment(MazeModel grid) {
+        if (grid instanceof MazeGrid heap) return MemorySegment.ofArray(heap.cells());
+        if (grid instanceof OffHeapMazeGrid offHeap) return offHeap.segment();
+        return null;
+    }
+
+    @SuppressWarnings("serial") // task fork-join, tidak pernah diserialisasi
+    private final class CarveTask extends RecursiveAction {
+        private final MazeModel grid;
+        private final MemorySegment cells;
+        private final int tileCols;
+        private final SplittableRandom[] tileRandom;
+        private final int from, to;
+
+        CarveTask(MazeModel grid, MemorySegment cells, int tileCols, SplittableRandom[] tileRandom, int from, int to) {
+            this.grid = grid;
+            this.cells = cells;
+            this.tileCols = tileCols;
+            this.tileRandom = tileRandom;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_TILES) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new CarveTask(grid, cells, tileCols, tileRandom, from, mid),
+                        new CarveTask(grid, cells, tileCols, tileRandom, mid, to));
+                return;
+            }
+            Scratch scratch = new Scratch(tileSize * tileSize);
+            for (int t = from; t < to; t++) {
+                int r0 = t / tileCols * tileSize;
+                int c0 = t % tileCols * tileSize;
+                carve(grid, cells, r0, c0, Math.min(tileSize, grid.rows() - r0), Math.min(tileSize, grid.cols() - c0),
+                        tileRandom[t], scratch);
+            }
+        }
+    }
+
+    // Buffer kerja Prim satu tile, dipakai ulang untuk tile berikutnya di task yang sama
+    private static final class Scratch {
+        final long[] inTree;
+        final long[] inFrontier;
+        final int[] frontier;
+
+        Scratch(int cells) {
+            inTree = Bits.create(cells);
+            inFrontier = Bits.create(cells);
+            frontier = new int[cells];
+        }
+    }
+
+    // Prim terindeks di dalam persegi (r0, c0, h, w); indeks lokal = lr * w + lc
+    private static void carve(MazeModel grid, MemorySegment cells, int r0, int c0, int h, int w, SplittableRandom rand, Scratch s) {
+        int n = h * w;
+        int words = (n + 63) >>> 6;
+        Arrays.fill(s.inTree, 0, words, 0L);
+        Arrays.fill(s.inFrontier, 0, words, 0L);
+        int[] frontier = s.frontier;
+        int frontierSize = 0;
+        int[] candidates = new int[4];
+        int cols = grid.cols();
+
+        int start = rand.nextInt(n);
+        Bits.set(s.inTree, start);
+        frontierSize = pushNeighbors(start, h, w, s, frontierSize);
+
+        while (frontierSize > 0) {
+            int j = rand.nextInt(frontierSize);
+            int current = frontier[j];
+            frontier[j] = frontier[--frontierSize];
+
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nb = localNeighbor(current, d, h, w);
+                if (nb >= 0 && Bits.get(s.inTree, nb)) candidates[count++] = d;
+            }
+            int global = (r0 + current / w) * cols + c0 + current % w;
+            int dir = candidates[rand.nextInt(count)];
+            if (cells == null) {
+                grid.removeWall(global, dir);
+            } else {
+                // Tetangga pasti di dalam tile (sudah di tree), jadi indeksnya valid
+                clearWall(cells, global, dir);
+                clearWall(cells, grid.neighbor(global, dir), MazeModel.opposite(dir));
+            }
+            Bits.set(s.inTree, current);
+            frontierSize = pushNeighbors(current, h, w, s, frontierSize);
+        }
+    }
+
+    private static void clearWall(MemorySegment cells, int i, int dir) {
+        byte b = cells.get(ValueLayout.JAVA_BYTE, i);
+        cells.set(ValueLayout.JAVA_BYTE, i, (byte) (b & ~(1 << dir)));
+    }
+
+    private static int pushNeighbors(int cell, int h, int w, Scratch s, int frontierSize) {
+        for (int d = 0; d < 4; d++) {
+            int nb = localNeighbor(cell, d, h, w);
+            if (nb >= 0 && !Bits.get(s.inTree, nb) && !Bits.get(s.inFrontier, nb)) {
+                Bits.set(s.inFrontier, nb);
+                s.frontier[frontierSize++] = nb;
+            }
+        }
+        return frontierSize;
+    }
+
+    private static int localNeighbor(int i, int dir, int h, int w) {
+        return switch (dir) {
+            case MazeModel.TOP -> i >= w ? i - w : -1;
+            case MazeModel.RIGHT -> i % w + 1 < w ? i + 1 : -1;
+            case MazeModel.BOTTOM -> i + w < h * w ? i + w : -1;
+            default -> i % w > 0 ? i - 1 : -1;
+        };
+    }
+
+    // Prim acak di graf tile (kecil, sekuensial); tiap sisi tree membuka satu dinding batas
+    private void stitch(MazeModel grid, int tileRows, int tileCols, SplittableRandom rand) {
+        int tiles = tileRows * tileCols;
+        if (tiles == 1) return;
+        long[] inTree = Bits.create(tiles);
+        // Frontier berisi sisi (tile dalam tree, arah) yang dikodekan tile * 4 + dir
+        int[] edges = new int[tiles * 4];
+        int edgeCount = 0;
+
+        Bits.set(inTree, 0);
+        edgeCount = pushTileEdges(0, tileRows, tileCols, edges, edgeCount);
+        while (edgeCount > 0) {
+            int j = rand.nextInt(edgeCount);
+            int edge = edges[j];
+            edges[j] = edges[--edgeCount];
+            int tile = edge >>> 2, dir = edge & 3;
+            int other = tileNeighbor(tile, dir, tileRows, tileCols);
+            if (Bits.get(inTree, other)) continue;
+
+            openBorder(grid, tile, dir, tileCols, rand);
+            Bits.set(inTree, other);
+            edgeCount = pushTileEdges(other, tileRows, tileCols, edges, edgeCount);
+        }
+    }
+
+    private static int pushTileEdges(int tile, int tileRows, int tileCols, int[] edges, int edgeCount) {
+        for (int d = 0; d < 4; d++) {
+            if (tileNeighbor(tile, d, tileRows, tileCols) >= 0) edges[edgeCount++] = tile << 2 | d;
+        }
+        return edgeCount;
+    }
+
+    private static int tileNeighbor(int t, int dir, int tileRows, int tileCols) {
+        return localNeighbor(t, dir, tileRows, tileCols);
+    }
+
+    // Buka satu dinding acak di sepanjang sisi tile ke arah dir
+    private void openBorder(MazeModel grid, int tile, int dir, int tileCols, SplittableRandom rand) {
+        int r0 = tile / tileCols * tileSize;
+        int c0 = tile % tileCols * tileSize;
+        int h = Math.min(tileSize, grid.rows() - r0);
+        int w = Math.min(tileSize, grid.cols() - c0);
+        int cell = switch (dir) {
+            case MazeModel.TOP -> grid.index(r0, c0 + rand.nextInt(w));
+            case MazeModel.BOTTOM -> grid.index(r0 + h - 1, c0 + rand.nextInt(w));
+            case MazeModel.LEFT -> grid.index(r0 + rand.nextInt(h), c0);
+            default -> grid.index(r0 + rand.nextInt(h), c0 + w - 1);
+        };
+        grid.removeWall(cell, dir);
+    }
+}
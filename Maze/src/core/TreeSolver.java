@@ -0,0 +1,49 @@
+package core;
+
+// Solver untuk banyak query dari source yang sama: pohon jalur terpendek dibangun sekali
+// (Dijkstra penuh, atau BFS kalau unweighted) lalu setiap target dijawab dari PathTreeCache
+// tanpa pencarian. Cache boleh dibagi antar instance (UI, batch).
+public final class TreeSolver implements Solver {
+
+    private final boolean weighted;
+    private final PathTreeCache cache;
+    private final SearchCounters counters = new SearchCounters();
+    private boolean lastHit;
+
+    public TreeSolver(boolean weighted) {
+        this(weighted, new PathTreeCache());
+    }
+
+    public TreeSolver(boolean weighted, PathTreeCache cache) {
+        this.weighted = weighted;
+        this.cache = cache;
+    }
+
+    @Override
+    public String name() {
+        return weighted ? "Dijkstra (cached tree)" : "BFS (cached tree)";
+    }
+
+    // Kerja membangun pohon; nol semua kalau query dijawab dari cache
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    public boolean isWeighted() { return weighted; }
+    public PathTreeCache cache() { return cache; }
+
+    // Solve terakhir dijawab dari pohon yang sudah ada
+    public boolean lastHit() { return lastHit; }
+
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        counters.reset();
+        PathTreeCache.Lookup lookup = cache.lookup(grid, source, weighted, listener, counters);
+        ShortestPathTree tree = lookup.tree();
+        lastHit = lookup.hit();
+        int expanded = lastHit ? 0 : tree.settled();
+        if (!tree.reaches(target)) return PathResult.notFound(name(), expanded);
+        return new PathResult(name(), true, tree.cost(target), expanded, tree.path(target));
+    }
+}
@@ -0,0 +1,75 @@
+package core;
+
+import java.util.Arrays;
+
+// BFS / DFS headless dari Maze.solve. Sel ditandai saat dimasukkan ke list,
+// urutan tetangga Top, Right, Bottom, Left. BFS mengambil dari depan, DFS dari belakang.
+// Karena setiap sel masuk paling banyak sekali, satu array int cukup sebagai queue/stack.
+public final class UnweightedSolver implements Solver {
+
+    private final boolean bfs;
+
+    private int[] list = new int[0];
+    private int[] parent = new int[0];
+    private long[] seen = new long[0];
+    private final SearchCounters counters = new SearchCounters();
+
+    public UnweightedSolver(boolean bfs) {
+        this.bfs = bfs;
+    }
+
+    @Override
+    public String name() {
+        return bfs ? "BFS" : "DFS";
+    }
+
+    @Override
+    public SearchCounters counters() {
+        return counters;
+    }
+
+    // expanded = jumlah sel yang diambil dari list, termasuk sel tujuan (sama seperti "Nodes Visited")
+    @Override
+    public PathResult solve(MazeModel grid, int source, int target, SearchListener listener) {
+        int n = grid.size();
+        if (list.length < n) {
+            list = new int[n];
+            parent = new int[n];
+            seen = Bits.create(n);
+        }
+        Arrays.fill(seen, 0);
+        counters.reset();
+
+        int head = 0, tail = 0;
+        list[tail++] = source;
+        counters.push(1);
+        parent[source] = -1;
+        Bits.set(seen, source);
+
+        int expanded = 0;
+        while (head < tail) {
+            int current = bfs ? list[head++] : list[--tail];
+            counters.pops++;
+            expanded++;
+
+            if (current == target) {
+                int[] path = PathResult.trace(parent, target);
+                return new PathResult(name(), true, path.length - 1, expanded, path);
+            }
+            if (listener != null) listener.onExpand(current);
+
+            for (int d = 0; d < 4; d++) {
+                int next = grid.passage(current, d);
+                if (next >= 0 && !Bits.get(seen, next)) {
+                    Bits.set(seen, next);
+                    parent[next] = current;
+                    list[tail++] = next;
+                    counters.relaxations++;
+                    counters.push(tail - head);
+                    if (listener != null) listener.onDiscover(next);
+                }
+            }
+        }
+        return PathResult.notFound(name(), expanded);
+    }
+}
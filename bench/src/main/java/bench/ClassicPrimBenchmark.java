@@ -0,0 +1,36 @@
+package bench;
+
+import core.ClassicPrimGenerator;
+import core.GenerationStats;
+import core.MazeModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// generatePrim versi lama (frontier ArrayList, O(n^2)); hanya ukuran kecil yang masih masuk akal
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassicPrimBenchmark {
+
+    @Param({"40x30", "200x150"})
+    public String size;
+
+    @Param({"1", "42"})
+    public long seed;
+
+    private MazeModel grid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = Sizes.grid(size);
+    }
+
+    @Benchmark
+    public GenerationStats primClassic() {
+        return new ClassicPrimGenerator(seed).generate(grid);
+    }
+}
@@ -0,0 +1,82 @@
+package bench;
+
+import core.EllerGenerator;
+import core.GenerationStats;
+import core.MazeModel;
+import core.NoiseTerrain;
+import core.PrimGenerator;
+import core.Terrain;
+import core.TiledPrimGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Generate maze headless (tanpa delay animasi) untuk berbagai ukuran grid
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class GeneratorBenchmark {
+
+    @Param({"40x30", "400x300", "2000x2000", "4000x4000"})
+    public String size;
+
+    // Jumlah loop sebagai fraksi jumlah sel (WeightedMaze: 120 / 1200 = 0.1)
+    @Param({"0.0", "0.1"})
+    public double loopDensity;
+
+    @Param({"1", "42"})
+    public long seed;
+
+    // Penyimpanan model: byte[] di heap atau MemorySegment off-heap
+    @Param({"heap", "offheap"})
+    public String storage;
+
+    private MazeModel grid;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = Sizes.grid(size, storage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Sizes.release(grid);
+    }
+
+    @Benchmark
+    public GenerationStats primIndexed() {
+        return new PrimGenerator(seed).generate(grid);
+    }
+
+    // Tile 256x256 di commonPool; skala dengan jumlah core
+    @Benchmark
+    public GenerationStats primTiled() {
+        return new TiledPrimGenerator(seed).generate(grid);
+    }
+
+    @Benchmark
+    public GenerationStats eller() {
+        return new EllerGenerator(seed).generate(grid);
+    }
+
+    // generateWeightedTerrain: Prim + terrain 60/25/15 + addLoops
+    @Benchmark
+    public MazeModel weightedTerrain() {
+        new PrimGenerator(seed).generate(grid);
+        Random rand = new Random(seed);
+        Terrain.assignRandom(grid, rand, 0.60, 0.25);
+        Terrain.addLoops(grid, rand, (int) (grid.size() * loopDensity));
+        return grid;
+    }
+
+    // Hanya pengisian terrain noise koheren 60/25/15, paralel per pita baris di commonPool
+    @Benchmark
+    public MazeModel noiseTerrain() {
+        new NoiseTerrain(seed).assign(grid, 0.60, 0.25);
+        return grid;
+    }
+}
@@ -0,0 +1,60 @@
+package bench;
+
+import core.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Latency re-solve setelah satu sel terrain berubah: LPA* (perbaikan lokal) vs A* dari nol.
+// Tiap invocation mengubah satu sel acak lalu solve ulang.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class IncrementalBenchmark {
+
+    @Param({"400x300", "2000x2000"})
+    public String size;
+
+    @Param({"0.1"})
+    public double loopDensity;
+
+    @Param({"noise", "random"})
+    public String terrain;
+
+    private MazeModel grid;
+    private Random rand;
+    private final LpaStarSolver lpa = new LpaStarSolver(true);
+    private final Solver aStar = new DijkstraSolver(true, true);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = Sizes.grid(size);
+        new PrimGenerator(42).generate(grid);
+        rand = new Random(42);
+        Sizes.terrain(grid, terrain, rand);
+        Terrain.addLoops(grid, rand, (int) (grid.size() * loopDensity));
+        lpa.solve(grid, 0, grid.size() - 1);
+    }
+
+    private int editRandomCell() {
+        int cell = rand.nextInt(grid.size());
+        grid.setTerrain(cell, 1 + rand.nextInt(MazeModel.MAX_TERRAIN));
+        return cell;
+    }
+
+    @Benchmark
+    public PathResult lpaRepair() {
+        lpa.cellChanged(grid, editRandomCell());
+        return lpa.solve(grid, 0, grid.size() - 1);
+    }
+
+    @Benchmark
+    public PathResult aStarFromScratch() {
+        editRandomCell();
+        return aStar.solve(grid, 0, grid.size() - 1);
+    }
+}
@@ -0,0 +1,59 @@
+package bench;
+
+import core.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// BFS level-synchronous dengan 1..N thread pada terrain map berloop.
+// threads=1 memakai jalur sekuensial yang sama, jadi speedup bisa dibaca langsung.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class ParallelBfsBenchmark {
+
+    @Param({"2000x2000", "4000x4000"})
+    public String size;
+
+    @Param({"0.1", "0.5"})
+    public double loopDensity;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int threads;
+
+    private MazeModel grid;
+    private ForkJoinPool pool;
+    private ParallelBfsSolver parallelBfs;
+    private final Solver bfs = new UnweightedSolver(true);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = Sizes.grid(size);
+        new PrimGenerator(42).generate(grid);
+        Random rand = new Random(42);
+        Terrain.assignRandom(grid, rand, 0.60, 0.25);
+        Terrain.addLoops(grid, rand, (int) (grid.size() * loopDensity));
+        pool = new ForkJoinPool(threads);
+        parallelBfs = new ParallelBfsSolver(pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public PathResult parallelBfs() {
+        return parallelBfs.solve(grid, 0, grid.size() - 1);
+    }
+
+    @Benchmark
+    public PathResult sequentialBfs() {
+        return bfs.solve(grid, 0, grid.size() - 1);
+    }
+}
@@ -0,0 +1,44 @@
+package bench;
+
+import core.MazeGrid;
+import core.MazeModel;
+import core.NoiseTerrain;
+import core.OffHeapMazeGrid;
+import core.Terrain;
+
+import java.util.Random;
+
+// Parameter ukuran ditulis "COLSxROWS", sama seperti 40x30 di Maze
+final class Sizes {
+
+    private Sizes() {}
+
+    static MazeModel grid(String size) {
+        return grid(size, "heap");
+    }
+
+    // storage: "heap" (MazeGrid) atau "offheap" (OffHeapMazeGrid)
+    static MazeModel grid(String size, String storage) {
+        int x = size.indexOf('x');
+        int cols = Integer.parseInt(size.substring(0, x));
+        int rows = Integer.parseInt(size.substring(x + 1));
+        return switch (storage) {
+            case "heap" -> new MazeGrid(rows, cols);
+            case "offheap" -> new OffHeapMazeGrid(rows, cols);
+            default -> throw new IllegalArgumentException("Unknown storage: " + storage);
+        };
+    }
+
+    // terrain: "noise" (area koheren, seperti generate di aplikasi) atau "random" (acak per sel), 60/25/15
+    static void terrain(MazeModel grid, String mode, Random rand) {
+        switch (mode) {
+            case "noise" -> new NoiseTerrain(rand.nextLong()).assign(grid, 0.60, 0.25);
+            case "random" -> Terrain.assignRandom(grid, rand, 0.60, 0.25);
+            default -> throw new IllegalArgumentException("Unknown terrain mode: " + mode);
+        }
+    }
+
+    static void release(MazeModel grid) {
+        grid.close();
+    }
+}
@@ -0,0 +1,114 @@
+package bench;
+
+import core.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Solver headless dari (0,0) ke pojok kanan bawah pada terrain map dengan loop.
+// Instance solver dipakai ulang, jadi -prof gc menunjukkan alokasi per solve setelah warm-up.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+    @Param({"40x30", "400x300", "2000x2000", "4000x4000"})
+    public String size;
+
+    @Param({"0.0", "0.1"})
+    public double loopDensity;
+
+    @Param({"1", "42"})
+    public long seed;
+
+    // Penyimpanan model: byte[] di heap atau MemorySegment off-heap
+    @Param({"heap", "offheap"})
+    public String storage;
+
+    // Terrain: noise = jalur yang dipakai aplikasi (NoiseTerrain lalu addLoops), random = acak per sel
+    @Param({"noise", "random"})
+    public String terrain;
+
+    private MazeModel grid;
+    private int source, target;
+
+    private final Solver bfs = new UnweightedSolver(true);
+    private final Solver dfs = new UnweightedSolver(false);
+    private final Solver dijkstra = new DijkstraSolver(false, true);
+    private final Solver aStar = new DijkstraSolver(true, true);
+    private final Solver dialDijkstra = new DialSolver(false, true);
+    private final Solver dialAStar = new DialSolver(true, true);
+    private final OffHeapDialSolver offHeapDialAStar = new OffHeapDialSolver(true, true);
+    private final AltSolver altAStar = new AltSolver(true);
+    private final HpaSolver hpa = new HpaSolver(true);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        grid = Sizes.grid(size, storage);
+        new PrimGenerator(seed).generate(grid);
+        Random rand = new Random(seed);
+        Sizes.terrain(grid, terrain, rand);
+        Terrain.addLoops(grid, rand, (int) (grid.size() * loopDensity));
+        source = 0;
+        target = grid.size() - 1;
+        altAStar.landmarks(grid);
+        hpa.graph(grid);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Sizes.release(grid);
+        offHeapDialAStar.close();
+    }
+
+    @Benchmark
+    public PathResult bfs() {
+        return bfs.solve(grid, source, target);
+    }
+
+    // Tabel landmark dibangun sekali di setup; yang diukur hanya query
+    @Benchmark
+    public PathResult altAStar() {
+        return altAStar.solve(grid, source, target);
+    }
+
+    // Graf cluster dibangun di setup; hasil approximate (cost bisa sedikit di atas optimal)
+    @Benchmark
+    public PathResult hpa() {
+        return hpa.solve(grid, source, target);
+    }
+
+    @Benchmark
+    public PathResult dfs() {
+        return dfs.solve(grid, source, target);
+    }
+
+    @Benchmark
+    public PathResult dijkstra() {
+        return dijkstra.solve(grid, source, target);
+    }
+
+    @Benchmark
+    public PathResult aStar() {
+        return aStar.solve(grid, source, target);
+    }
+
+    @Benchmark
+    public PathResult dialDijkstra() {
+        return dialDijkstra.solve(grid, source, target);
+    }
+
+    @Benchmark
+    public PathResult dialAStar() {
+        return dialAStar.solve(grid, source, target);
+    }
+
+    @Benchmark
+    public PathResult offHeapDialAStar() {
+        return offHeapDialAStar.solve(grid, source, target);
+    }
+}
@@ -0,0 +1,12 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+class AltSolverTest {
+
+    @Test
+    void altIsOptimal() {
+        Grids.assertOptimal(() -> new AltSolver(true), true);
+        Grids.assertOptimal(() -> new AltSolver(false), false);
+    }
+}
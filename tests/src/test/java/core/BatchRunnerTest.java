@@ -0,0 +1,51 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchRunnerTest {
+
+    private static String run(double pGrass, double pMud, boolean noise, BatchRunner.Format format) throws IOException, InterruptedException {
+        BatchRunner.Config config = new BatchRunner.Config(12, 16, "prim", 10, pGrass, pMud, noise,
+                List.of("bfs", "dijkstra"), 1, 3, 2, format);
+        StringWriter out = new StringWriter();
+        assertEquals(6, BatchRunner.run(config, out).runs());
+        return out.toString();
+    }
+
+    // Setiap baris membawa parameter terrain & thread, jadi beberapa sweep bisa digabung
+    @Test
+    void csvRowsCarryTerrainParameters() throws IOException, InterruptedException {
+        String[] lines = run(0.6, 0.25, true, BatchRunner.Format.CSV).split("\n");
+        assertEquals(7, lines.length);
+        List<String> header = List.of(lines[0].split(","));
+        int pGrass = header.indexOf("p_grass");
+        int pMud = header.indexOf("p_mud");
+        int mode = header.indexOf("terrain_mode");
+        int threads = header.indexOf("threads");
+        for (int i = 1; i < lines.length; i++) {
+            String[] row = lines[i].split(",");
+            assertEquals(header.size(), row.length);
+            assertEquals("0.6", row[pGrass]);
+            assertEquals("0.25", row[pMud]);
+            assertEquals("noise", row[mode]);
+            assertEquals("2", row[threads]);
+        }
+    }
+
+    @Test
+    void jsonlReportsTerrainMode() throws IOException, InterruptedException {
+        for (String line : run(0.6, 0.25, false, BatchRunner.Format.JSONL).split("\n")) {
+            assertTrue(line.contains("\"terrain_mode\":\"random\""), line);
+        }
+        for (String line : run(1, 0, true, BatchRunner.Format.JSONL).split("\n")) {
+            assertTrue(line.contains("\"terrain_mode\":\"none\""), line);
+        }
+    }
+}
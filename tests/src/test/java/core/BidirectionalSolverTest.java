@@ -0,0 +1,17 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+class BidirectionalSolverTest {
+
+    @Test
+    void bidirectionalBfsIsShortest() {
+        Grids.assertOptimal(BidirectionalBfsSolver::new, false);
+    }
+
+    @Test
+    void bidirectionalAStarIsOptimal() {
+        Grids.assertOptimal(() -> new BidirectionalAStarSolver(true, false), false);
+        Grids.assertOptimal(() -> new BidirectionalAStarSolver(true, true), true);
+    }
+}
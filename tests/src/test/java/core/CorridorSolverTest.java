@@ -0,0 +1,17 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+class CorridorSolverTest {
+
+    @Test
+    void corridorDijkstraIsOptimal() {
+        Grids.assertOptimal(() -> new CorridorSolver(false, true), true);
+        Grids.assertOptimal(() -> new CorridorSolver(false, false), false);
+    }
+
+    @Test
+    void corridorAStarIsOptimal() {
+        Grids.assertOptimal(() -> new CorridorSolver(true, true), true);
+    }
+}
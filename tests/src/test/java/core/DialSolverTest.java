@@ -0,0 +1,17 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+class DialSolverTest {
+
+    @Test
+    void dialIsOptimal() {
+        Grids.assertOptimal(() -> new DialSolver(false, true), true);
+        Grids.assertOptimal(() -> new DialSolver(false, false), false);
+    }
+
+    @Test
+    void dialAStarIsOptimal() {
+        Grids.assertOptimal(() -> new DialSolver(true, true), true);
+    }
+}
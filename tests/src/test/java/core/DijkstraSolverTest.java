@@ -0,0 +1,18 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+class DijkstraSolverTest {
+
+    @Test
+    void dijkstraIsOptimal() {
+        Grids.assertOptimal(() -> new DijkstraSolver(false, false), false);
+        Grids.assertOptimal(() -> new DijkstraSolver(false, true), true);
+    }
+
+    @Test
+    void aStarIsOptimal() {
+        Grids.assertOptimal(() -> new DijkstraSolver(true, false), false);
+        Grids.assertOptimal(() -> new DijkstraSolver(true, true), true);
+    }
+}
@@ -0,0 +1,55 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EllerGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeMatchesGenerate() throws IOException {
+        for (int[] size : new int[][]{{1, 1}, {1, 17}, {23, 1}, {64, 97}, {300, 5}}) {
+            int rows = size[0], cols = size[1];
+            MazeGrid expected = new MazeGrid(rows, cols);
+            new EllerGenerator(77).generate(expected);
+
+            Path file = dir.resolve("eller-" + rows + "x" + cols + ".bin");
+            GenerationStats stats = new EllerGenerator(77).write(rows, cols, file);
+            assertEquals((long) rows * cols, stats.cells());
+            Grids.assertSameCells(expected, MazeFile.load(file));
+        }
+    }
+
+    // Maze sempurna: tepat rows*cols-1 dinding dalam terbuka, exit terjangkau
+    @Test
+    void generatesPerfectMaze() {
+        MazeGrid grid = new MazeGrid(40, 55);
+        new EllerGenerator(5).generate(grid);
+        int open = 0;
+        for (int i = 0; i < grid.size(); i++) {
+            if (grid.passage(i, MazeModel.RIGHT) >= 0) open++;
+            if (grid.passage(i, MazeModel.BOTTOM) >= 0) open++;
+        }
+        assertEquals(grid.size() - 1, open);
+        assertEquals(true, Grids.shortest(grid, 0, grid.size() - 1, false) > 0);
+    }
+
+    // Maze di atas MAX_CELLS tidak bisa dibuka MazeFile, jadi write menolaknya sebelum menulis apa pun
+    @Test
+    void writeRejectsUnreadableSize() {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class,
+                () -> new EllerGenerator(1).write(50_000, 50_000, Channels.newChannel(sink)));
+        assertEquals(0, sink.size());
+    }
+}
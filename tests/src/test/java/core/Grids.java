@@ -0,0 +1,124 @@
+package core;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+// Helper bersama untuk test: maze acak dengan loop & terrain, Dijkstra referensi, validasi path
+final class Grids {
+
+    private Grids() {}
+
+    // Maze Prim + terrain acak + loop, deterministik per seed
+    static MazeGrid loopy(int rows, int cols, long seed, int loops) {
+        MazeGrid grid = new MazeGrid(rows, cols);
+        new PrimGenerator(seed).generate(grid);
+        Random rand = new Random(seed);
+        Terrain.assignRandom(grid, rand, 0.6, 0.25);
+        Terrain.addLoops(grid, rand, loops);
+        return grid;
+    }
+
+    // Dijkstra sederhana (PriorityQueue, tanpa optimasi) sebagai pembanding; -1 jika tidak terjangkau
+    static int shortest(MazeModel grid, int source, int target, boolean weighted) {
+        int[] dist = new int[grid.size()];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        dist[source] = 0;
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        queue.add(new long[]{0, source});
+        while (!queue.isEmpty()) {
+            long[] e = queue.poll();
+            int u = (int) e[1];
+            if (e[0] > dist[u]) continue;
+            if (u == target) return dist[u];
+            for (int dir = 0; dir < 4; dir++) {
+                int v = grid.passage(u, dir);
+                if (v < 0) continue;
+                int d = dist[u] + (weighted ? grid.terrain(v) : 1);
+                if (d < dist[v]) {
+                    dist[v] = d;
+                    queue.add(new long[]{d, v});
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Pastikan path sah (start -> target lewat dinding terbuka) dan cocok dengan cost yang dilaporkan
+    static int checkPath(MazeModel grid, PathResult res, int source, int target, boolean weighted) {
+        assertTrue(res.found(), res.algorithm() + " found no path");
+        int[] path = res.path();
+        assertEquals(source, path[0], res.algorithm() + " path start");
+        assertEquals(target, path[path.length - 1], res.algorithm() + " path end");
+        int cost = 0;
+        for (int i = 1; i < path.length; i++) {
+            int dir = grid.direction(path[i - 1], path[i]);
+            if (dir < 0 || grid.passage(path[i - 1], dir) != path[i]) {
+                fail(res.algorithm() + " path goes through a wall at " + path[i - 1] + " -> " + path[i]);
+            }
+            cost += weighted ? grid.terrain(path[i]) : 1;
+        }
+        assertEquals(cost, res.cost(), res.algorithm() + " reported cost");
+        return cost;
+    }
+
+    // Generate ulang grid yang sama di tempat (version melompat banyak), seperti tombol generate di UI
+    static void regenerate(MazeGrid grid, long seed) {
+        new PrimGenerator(seed).generate(grid);
+        Random rand = new Random(seed);
+        Terrain.assignRandom(grid, rand, 0.6, 0.25);
+        Terrain.addLoops(grid, rand, 150);
+    }
+
+    static int interiorCell(MazeModel grid, Random rand) {
+        return grid.index(rand.nextInt(grid.rows() - 2) + 1, rand.nextInt(grid.cols() - 2) + 1);
+    }
+
+    // Seed maze untuk pengecekan solver (30x40, 150 loop, terrain acak)
+    private static final long[] SEEDS = {1, 7, 42, 1234, 99991};
+
+    // Solver harus sama dengan Dijkstra referensi: start -> exit plus pasangan acak, instance dipakai ulang
+    static void assertOptimal(Supplier<Solver> factory, boolean weighted) {
+        Solver solver = factory.get();
+        for (long seed : SEEDS) {
+            MazeGrid grid = loopy(30, 40, seed, 150);
+            Random rand = new Random(seed);
+            for (int q = 0; q < 5; q++) {
+                int source = q == 0 ? 0 : rand.nextInt(grid.size());
+                int target = q == 0 ? grid.size() - 1 : rand.nextInt(grid.size());
+                int expected = shortest(grid, source, target, weighted);
+                PathResult res = solver.solve(grid, source, target);
+                assertEquals(expected, checkPath(grid, res, source, target, weighted),
+                        solver.name() + " seed " + seed + " " + source + " -> " + target);
+            }
+        }
+    }
+
+    // Solver tanpa jaminan optimal: cukup path sah dengan cost >= optimum
+    static void assertValid(Supplier<Solver> factory, boolean weighted) {
+        Solver solver = factory.get();
+        for (long seed : SEEDS) {
+            MazeGrid grid = loopy(30, 40, seed, 150);
+            int target = grid.size() - 1;
+            int expected = shortest(grid, 0, target, weighted);
+            int cost = checkPath(grid, solver.solve(grid, 0, target), 0, target, weighted);
+            assertTrue(cost >= expected, solver.name() + " cost " + cost + " below optimum " + expected);
+        }
+    }
+
+    static void assertSameCells(MazeModel expected, MazeModel actual) {
+        assertEquals(expected.rows(), actual.rows(), "rows");
+        assertEquals(expected.cols(), actual.cols(), "cols");
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.walls(i) != actual.walls(i) || expected.terrain(i) != actual.terrain(i)) {
+                fail("cell " + i + " differs: walls " + expected.walls(i) + "/" + actual.walls(i)
+                        + ", terrain " + expected.terrain(i) + "/" + actual.terrain(i));
+            }
+        }
+    }
+}
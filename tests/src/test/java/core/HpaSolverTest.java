@@ -0,0 +1,63 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// HPA* tidak optimal; graf yang dibangun ulang per cluster setelah edit harus memberi hasil
+// yang sama dengan solver baru (graf dibangun dari nol) di grid yang sama
+class HpaSolverTest {
+
+    private static void toggleWall(MazeModel grid, int cell, int dir, HpaSolver hpa) {
+        int nb = grid.neighbor(cell, dir);
+        if (grid.hasWall(cell, dir)) grid.removeWall(cell, dir);
+        else grid.addWall(cell, dir);
+        hpa.cellChanged(grid, cell);
+        hpa.cellChanged(grid, nb);
+    }
+
+    private static void assertSameAsFresh(MazeModel grid, HpaSolver hpa, String what) {
+        int target = grid.size() - 1;
+        PathResult expected = new HpaSolver(true, 8).solve(grid, 0, target);
+        PathResult res = hpa.solve(grid, 0, target);
+        assertEquals(expected.cost(), Grids.checkPath(grid, res, 0, target, true), what);
+    }
+
+    @Test
+    void findsValidPath() {
+        Grids.assertValid(() -> new HpaSolver(false, 8), false);
+        Grids.assertValid(() -> new HpaSolver(true, 8), true);
+    }
+
+    @Test
+    void staysConsistentUnderEdits() {
+        MazeGrid grid = Grids.loopy(30, 40, 6, 150);
+        HpaSolver hpa = new HpaSolver(true, 8);
+        Random rand = new Random(6);
+        assertSameAsFresh(grid, hpa, "initial");
+        for (int step = 0; step < 100; step++) {
+            toggleWall(grid, Grids.interiorCell(grid, rand), rand.nextInt(4), hpa);
+            if (Grids.shortest(grid, 0, grid.size() - 1, true) < 0) {
+                continue; // edit memutus maze; edit berikutnya bisa menyambung lagi
+            }
+            assertSameAsFresh(grid, hpa, "after edit " + step);
+        }
+    }
+
+    @Test
+    void editAfterRegenerate() {
+        MazeGrid grid = Grids.loopy(30, 40, 11, 150);
+        HpaSolver hpa = new HpaSolver(true, 8);
+        assertSameAsFresh(grid, hpa, "before regenerate");
+
+        Grids.regenerate(grid, 12);
+        Random rand = new Random(12);
+        toggleWall(grid, Grids.interiorCell(grid, rand), MazeModel.RIGHT, hpa);
+        assertSameAsFresh(grid, hpa, "first edit after regenerate");
+
+        toggleWall(grid, Grids.interiorCell(grid, rand), MazeModel.BOTTOM, hpa);
+        assertSameAsFresh(grid, hpa, "second edit after regenerate");
+    }
+}
@@ -0,0 +1,52 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobSchedulerTest {
+
+    // Metrik alokasi hanya tersedia di platform thread; di virtual thread selalu -1 ("n/a")
+    @Test
+    void solveJobReportsAllocation() throws InterruptedException {
+        MazeGrid grid = Grids.loopy(30, 40, 13, 150);
+        AtomicReference<SolveMetrics> metrics = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try (JobScheduler jobs = new JobScheduler()) {
+            jobs.submit(JobScheduler.Kind.SOLVE, "Dijkstra", () -> {
+                metrics.set(Metrics.solve(new DijkstraSolver(false, true), grid, 0, grid.size() - 1));
+                done.countDown();
+            });
+            assertTrue(done.await(10, TimeUnit.SECONDS), "job did not run");
+        }
+        assertNotNull(metrics.get());
+        assertTrue(metrics.get().result().found());
+        assertTrue(metrics.get().allocatedBytes() > 0, "allocation not measured: " + metrics.get().allocatedBytes());
+    }
+
+    // SOLVE yang masih antre dibuang oleh SOLVE baru; Job langsung bisa ditanya status/dibatalkan
+    @Test
+    void newerSolveSupersedesQueuedOne() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        try (JobScheduler jobs = new JobScheduler()) {
+            JobScheduler.Job blocker = jobs.submit(JobScheduler.Kind.IO, "Save", release::await);
+            JobScheduler.Job first = jobs.submit(JobScheduler.Kind.SOLVE, "First", () -> {});
+            assertFalse(first.isDone());
+            JobScheduler.Job second = jobs.submit(JobScheduler.Kind.SOLVE, "Second", done::countDown);
+            assertTrue(first.isCancelled());
+            assertTrue(first.isDone());
+
+            release.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS), "second job did not run");
+            assertFalse(blocker.isCancelled());
+            assertFalse(second.isCancelled());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// LPA* harus tetap optimal setelah edit dinding/terrain, termasuk edit pertama setelah
+// maze di-generate ulang di grid yang sama
+class LpaStarSolverTest {
+
+    // Edit dinding seperti di UI: toggle lalu laporkan kedua sel
+    private static void toggleWall(MazeModel grid, int cell, int dir, LpaStarSolver lpa) {
+        int nb = grid.neighbor(cell, dir);
+        if (grid.hasWall(cell, dir)) grid.removeWall(cell, dir);
+        else grid.addWall(cell, dir);
+        lpa.cellChanged(grid, cell);
+        lpa.cellChanged(grid, nb);
+    }
+
+    private static void assertOptimal(MazeModel grid, Solver solver, String what) {
+        int target = grid.size() - 1;
+        int expected = Grids.shortest(grid, 0, target, true);
+        PathResult res = solver.solve(grid, 0, target);
+        if (expected < 0) {
+            assertEquals(false, res.found(), what + ": path found in disconnected maze");
+            return;
+        }
+        assertEquals(expected, Grids.checkPath(grid, res, 0, target, true), what);
+    }
+
+    @Test
+    void freshSolveIsOptimal() {
+        Grids.assertOptimal(() -> new LpaStarSolver(false), false);
+        Grids.assertOptimal(() -> new LpaStarSolver(true), true);
+    }
+
+    @Test
+    void staysOptimalUnderEdits() {
+        MazeGrid grid = Grids.loopy(30, 40, 5, 150);
+        LpaStarSolver lpa = new LpaStarSolver(true);
+        Random rand = new Random(5);
+        assertOptimal(grid, lpa, "initial");
+        for (int step = 0; step < 200; step++) {
+            int cell = Grids.interiorCell(grid, rand);
+            if (rand.nextBoolean()) {
+                toggleWall(grid, cell, rand.nextInt(4), lpa);
+            } else {
+                grid.setTerrain(cell, switch (rand.nextInt(3)) {
+                    case 0 -> Terrain.COST_GRASS;
+                    case 1 -> Terrain.COST_MUD;
+                    default -> Terrain.COST_WATER;
+                });
+                lpa.cellChanged(grid, cell);
+            }
+            assertOptimal(grid, lpa, "after edit " + step);
+        }
+    }
+
+    @Test
+    void editAfterRegenerate() {
+        MazeGrid grid = Grids.loopy(30, 40, 11, 150);
+        LpaStarSolver lpa = new LpaStarSolver(true);
+        assertOptimal(grid, lpa, "before regenerate");
+
+        // Generate ulang tanpa memberi tahu solver, lalu satu edit yang dilaporkan
+        Grids.regenerate(grid, 12);
+        Random rand = new Random(12);
+        toggleWall(grid, Grids.interiorCell(grid, rand), MazeModel.RIGHT, lpa);
+        assertOptimal(grid, lpa, "first edit after regenerate");
+
+        toggleWall(grid, Grids.interiorCell(grid, rand), MazeModel.BOTTOM, lpa);
+        assertOptimal(grid, lpa, "second edit after regenerate");
+    }
+}
@@ -0,0 +1,44 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MazeFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void saveLoadRoundTrip() throws IOException {
+        MazeGrid grid = Grids.loopy(37, 53, 3, 200);
+        Path file = dir.resolve("maze.bin");
+        MazeFile.save(grid, file);
+
+        Grids.assertSameCells(grid, MazeFile.load(file));
+        try (OffHeapMazeGrid mapped = MazeFile.open(file, false)) {
+            Grids.assertSameCells(grid, mapped);
+        }
+    }
+
+    @Test
+    void writableMappingPersists() throws IOException {
+        MazeGrid grid = Grids.loopy(20, 20, 4, 50);
+        Path file = dir.resolve("maze.bin");
+        MazeFile.save(grid, file);
+
+        int cell = grid.index(10, 10);
+        try (OffHeapMazeGrid mapped = MazeFile.open(file, true)) {
+            mapped.setTerrain(cell, Terrain.COST_WATER);
+            if (mapped.hasWall(cell, MazeModel.RIGHT)) mapped.removeWall(cell, MazeModel.RIGHT);
+            else mapped.addWall(cell, MazeModel.RIGHT);
+        }
+        MazeModel loaded = MazeFile.load(file);
+        assertEquals(Terrain.COST_WATER, loaded.terrain(cell));
+        assertEquals(!grid.hasWall(cell, MazeModel.RIGHT), loaded.hasWall(cell, MazeModel.RIGHT));
+    }
+}
@@ -0,0 +1,35 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NoiseTerrainTest {
+
+    @Test
+    void independentOfPoolSize() {
+        MazeGrid single = new MazeGrid(400, 300);
+        MazeGrid multi = new MazeGrid(400, 300);
+        try (ForkJoinPool one = new ForkJoinPool(1); ForkJoinPool four = new ForkJoinPool(4)) {
+            new NoiseTerrain(21, NoiseTerrain.DEFAULT_FEATURE_SIZE, NoiseTerrain.DEFAULT_OCTAVES, one)
+                    .assign(single, 0.6, 0.25);
+            new NoiseTerrain(21, NoiseTerrain.DEFAULT_FEATURE_SIZE, NoiseTerrain.DEFAULT_OCTAVES, four)
+                    .assign(multi, 0.6, 0.25);
+        }
+        Grids.assertSameCells(single, multi);
+    }
+
+    // Proporsi grass/mud/water mengikuti probabilitas (threshold dari sampel noise)
+    @Test
+    void matchesRequestedProportions() {
+        MazeGrid grid = new MazeGrid(400, 300);
+        new NoiseTerrain(3).assign(grid, 0.6, 0.25);
+        int[] count = new int[MazeModel.MAX_TERRAIN + 1];
+        for (int i = 0; i < grid.size(); i++) count[grid.terrain(i)]++;
+        assertEquals(0.60, count[Terrain.COST_GRASS] / (double) grid.size(), 0.05);
+        assertEquals(0.25, count[Terrain.COST_MUD] / (double) grid.size(), 0.05);
+        assertEquals(0.15, count[Terrain.COST_WATER] / (double) grid.size(), 0.05);
+    }
+}
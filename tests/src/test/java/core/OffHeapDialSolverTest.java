@@ -0,0 +1,12 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapDialSolverTest {
+
+    @Test
+    void offHeapDialIsOptimal() {
+        Grids.assertOptimal(() -> new OffHeapDialSolver(false, true), true);
+        Grids.assertOptimal(() -> new OffHeapDialSolver(true, true), true);
+    }
+}
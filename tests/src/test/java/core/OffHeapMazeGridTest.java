@@ -0,0 +1,42 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapMazeGridTest {
+
+    @Test
+    void sameMazeAsHeapGrid() {
+        MazeGrid heap = new MazeGrid(45, 61);
+        new PrimGenerator(17).generate(heap);
+        try (OffHeapMazeGrid offHeap = new OffHeapMazeGrid(45, 61)) {
+            new PrimGenerator(17).generate(offHeap);
+            Grids.assertSameCells(heap, offHeap);
+        }
+    }
+
+    // Maze kecil tetap di heap; di atas OFF_HEAP_THRESHOLD pindah ke off-heap
+    @Test
+    void allocatePicksStorageBySize() {
+        try (MazeModel small = MazeModel.allocate(300, 400)) {
+            assertInstanceOf(MazeGrid.class, small);
+        }
+        try (MazeModel huge = MazeModel.allocate(9000, 8000)) {
+            assertInstanceOf(OffHeapMazeGrid.class, huge);
+            int last = huge.size() - 1;
+            huge.removeWall(last - 1, MazeModel.RIGHT);
+            assertFalse(huge.hasWall(last, MazeModel.LEFT));
+        }
+    }
+
+    @Test
+    void rejectsMoreThanMaxCells() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new OffHeapMazeGrid(50_000, 50_000));
+        assertTrue(e.getMessage().contains(String.valueOf(MazeModel.MAX_CELLS)), e.getMessage());
+    }
+}
@@ -0,0 +1,22 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+class ParallelBfsSolverTest {
+
+    @Test
+    void parallelBfsIsShortest() {
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            Grids.assertOptimal(() -> new ParallelBfsSolver(pool), false);
+        }
+    }
+
+    @Test
+    void singleThreadPoolGivesSameResult() {
+        try (ForkJoinPool pool = new ForkJoinPool(1)) {
+            Grids.assertOptimal(() -> new ParallelBfsSolver(pool), false);
+        }
+    }
+}
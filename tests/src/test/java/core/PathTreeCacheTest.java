@@ -0,0 +1,54 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathTreeCacheTest {
+
+    @Test
+    void treesMatchReferenceAndHit() {
+        MazeGrid grid = Grids.loopy(30, 40, 8, 150);
+        PathTreeCache cache = new PathTreeCache();
+        int target = grid.size() - 1;
+        for (boolean weighted : new boolean[]{false, true}) {
+            ShortestPathTree tree = cache.tree(grid, 0, weighted);
+            assertEquals(Grids.shortest(grid, 0, target, weighted), tree.cost(target));
+            assertSame(tree, cache.tree(grid, 0, weighted));
+        }
+        assertEquals(2, cache.misses());
+        assertEquals(2, cache.hits());
+    }
+
+    @Test
+    void evictedTreeStaysIntact() {
+        MazeGrid grid = Grids.loopy(30, 40, 9, 150);
+        // Cukup untuk dua pohon, jadi setiap source baru membuang yang lama
+        PathTreeCache cache = new PathTreeCache(2 * 8L * grid.size());
+        int target = grid.size() - 1;
+        ShortestPathTree held = cache.tree(grid, 0, true);
+        int cost = held.cost(target);
+        int[] path = held.path(target);
+
+        for (int source = 1; source < 20; source++) cache.tree(grid, source * 37, true);
+        assertTrue(cache.evictions() > 0);
+        assertEquals(cost, held.cost(target));
+        assertArrayEquals(path, held.path(target));
+        assertNotSame(held, cache.tree(grid, 0, true));
+    }
+
+    @Test
+    void gridChangeDropsTrees() {
+        MazeGrid grid = Grids.loopy(30, 40, 10, 150);
+        PathTreeCache cache = new PathTreeCache();
+        ShortestPathTree tree = cache.tree(grid, 0, false);
+        grid.removeWall(grid.index(5, 5), MazeModel.RIGHT);
+        assertTrue(tree.isStale());
+        assertEquals(false, cache.contains(grid, 0, false));
+        assertEquals(Grids.shortest(grid, 0, grid.size() - 1, false), cache.tree(grid, 0, false).cost(grid.size() - 1));
+    }
+}
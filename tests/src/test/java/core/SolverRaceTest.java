@@ -0,0 +1,33 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SolverRaceTest {
+
+    @Test
+    void cheapestIsOptimalWhateverTheOrder() {
+        MazeGrid grid = Grids.loopy(30, 40, 14, 150);
+        int target = grid.size() - 1;
+        int expected = Grids.shortest(grid, 0, target, true);
+        // DFS & BFS tidak memperhitungkan terrain, Dijkstra sengaja di posisi terakhir
+        SolverRace.Result race = SolverRace.run(grid, 0, target, List.of(
+                new UnweightedSolver(false),
+                new UnweightedSolver(true),
+                new DijkstraSolver(false, true)), true);
+        assertEquals(3, race.entries().size());
+        assertEquals(expected, race.cheapest().pathCost());
+        assertEquals(expected, Grids.checkPath(grid, race.cheapest().result(), 0, target, true));
+    }
+
+    @Test
+    void cheapestIsNullWithoutPath() {
+        MazeGrid grid = new MazeGrid(5, 5); // semua dinding tertutup
+        SolverRace.Result race = SolverRace.run(grid, 0, 24, List.of(new UnweightedSolver(true)), false);
+        assertNull(race.cheapest());
+    }
+}
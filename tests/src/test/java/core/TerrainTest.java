@@ -0,0 +1,42 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TerrainTest {
+
+    private static int openWalls(MazeModel grid) {
+        int open = 0;
+        for (int i = 0; i < grid.size(); i++) {
+            if (!grid.hasWall(i, MazeModel.RIGHT) && grid.neighbor(i, MazeModel.RIGHT) >= 0) open++;
+            if (!grid.hasWall(i, MazeModel.BOTTOM) && grid.neighbor(i, MazeModel.BOTTOM) >= 0) open++;
+        }
+        return open;
+    }
+
+    @Test
+    void addLoopsRemovesExactCount() {
+        MazeGrid grid = new MazeGrid(30, 40);
+        new PrimGenerator(2).generate(grid);
+        int before = openWalls(grid);
+        Terrain.addLoops(grid, new Random(2), 120);
+        assertEquals(before + 120, openWalls(grid));
+    }
+
+    // Maze kecil dengan count lebih besar dari dinding yang tersisa: berhenti setelah semua dinding dalam terbuka
+    @Test
+    @Timeout(value = 5, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+    void addLoopsStopsWhenNoWallsLeft() {
+        MazeGrid grid = new MazeGrid(3, 7);
+        new PrimGenerator(3).generate(grid);
+        Terrain.addLoops(grid, new Random(3), 120);
+        for (int c = 1; c < 6; c++) {
+            int cell = grid.index(1, c);
+            for (int dir = 0; dir < 4; dir++) assertEquals(false, grid.hasWall(cell, dir), "wall " + dir + " of " + cell);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Hasil harus sama untuk seed yang sama, berapa pun jumlah thread di pool
+class TiledPrimGeneratorTest {
+
+    @Test
+    void independentOfPoolSize() {
+        MazeGrid single = new MazeGrid(150, 170);
+        MazeGrid multi = new MazeGrid(150, 170);
+        try (ForkJoinPool one = new ForkJoinPool(1); ForkJoinPool four = new ForkJoinPool(4)) {
+            new TiledPrimGenerator(9, 32, one).generate(single);
+            new TiledPrimGenerator(9, 32, four).generate(multi);
+        }
+        Grids.assertSameCells(single, multi);
+        // version() juga harus sama: cache solver membandingkan version dengan ==
+        assertEquals(single.version(), multi.version());
+    }
+
+    // Sambungan antar tile: setiap sel terjangkau, dan tanpa siklus (rows*cols-1 dinding terbuka)
+    @Test
+    void tilesJoinIntoPerfectMaze() {
+        MazeGrid grid = new MazeGrid(150, 170);
+        new TiledPrimGenerator(9, 32).generate(grid);
+        int open = 0;
+        for (int i = 0; i < grid.size(); i++) {
+            if (grid.passage(i, MazeModel.RIGHT) >= 0) open++;
+            if (grid.passage(i, MazeModel.BOTTOM) >= 0) open++;
+        }
+        assertEquals(grid.size() - 1, open);
+        for (int i = 0; i < grid.size(); i += 997) {
+            assertEquals(true, Grids.shortest(grid, 0, i, false) >= 0, "cell " + i + " unreachable");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TreeSolverTest {
+
+    @Test
+    void cachedTreeIsOptimal() {
+        Grids.assertOptimal(() -> new TreeSolver(false), false);
+        Grids.assertOptimal(() -> new TreeSolver(true), true);
+    }
+
+    // Query kedua dari source yang sama dijawab dari pohon: hit, tanpa sel yang di-expand
+    @Test
+    void secondQueryIsHit() {
+        MazeGrid grid = Grids.loopy(30, 40, 15, 150);
+        TreeSolver solver = new TreeSolver(true);
+        PathResult first = solver.solve(grid, 0, grid.size() - 1);
+        assertFalse(solver.lastHit());
+        assertTrue(first.expanded() > 0);
+
+        PathResult second = solver.solve(grid, 0, grid.size() / 2);
+        assertTrue(solver.lastHit());
+        assertEquals(0, second.expanded());
+        assertEquals(1, solver.cache().hits());
+        assertEquals(1, solver.cache().misses());
+    }
+}
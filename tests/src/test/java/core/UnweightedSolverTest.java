@@ -0,0 +1,16 @@
+package core;
+
+import org.junit.jupiter.api.Test;
+
+class UnweightedSolverTest {
+
+    @Test
+    void bfsIsShortest() {
+        Grids.assertOptimal(() -> new UnweightedSolver(true), false);
+    }
+
+    @Test
+    void dfsFindsValidPath() {
+        Grids.assertValid(() -> new UnweightedSolver(false), false);
+    }
+}